@@ -0,0 +1,44 @@
+package br.com.grupoprosaudi.w_api_sdk.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.file.Path;
+
+/**
+ * Opções de execução de uma campanha.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignOptions {
+
+    /**
+     * Quantidade máxima de envios simultâneos.
+     */
+    @Builder.Default
+    private int concurrency = 8;
+
+    /**
+     * Arquivo onde os resultados são gravados à medida que os envios terminam.
+     * Opcional; em uma retomada, os novos resultados são acrescentados ao final.
+     */
+    private Path resultsFile;
+
+    /**
+     * Arquivo de ponto de controle, que guarda a posição a partir da qual a campanha
+     * deve ser retomada. Opcional.
+     */
+    private Path checkpointFile;
+
+    /**
+     * Quantidade de envios concluídos entre duas gravações do ponto de controle.
+     */
+    @Builder.Default
+    private int checkpointInterval = 100;
+}
@@ -0,0 +1,25 @@
+package br.com.grupoprosaudi.w_api_sdk.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Destinatário de uma campanha, com o telefone e os valores das variáveis do modelo.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignRecipient implements Serializable {
+
+    private String phone;
+
+    private Map<String, String> variables;
+}
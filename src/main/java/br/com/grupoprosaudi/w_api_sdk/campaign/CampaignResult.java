@@ -0,0 +1,33 @@
+package br.com.grupoprosaudi.w_api_sdk.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Resultado do envio de uma mensagem de campanha para um destinatário.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignResult implements Serializable {
+
+    /**
+     * Posição do destinatário na origem, iniciando em zero.
+     */
+    private long position;
+
+    private String phone;
+
+    private boolean success;
+
+    private String messageId;
+
+    private String error;
+}
@@ -0,0 +1,160 @@
+package br.com.grupoprosaudi.w_api_sdk.campaign;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura de destinatários de campanha a partir de arquivos CSV.
+ * <p>
+ * O arquivo é lido em blocos, linha a linha, conforme a demanda do consumidor,
+ * mantendo o consumo de memória constante independentemente do tamanho da lista.
+ * A primeira linha deve conter os nomes das colunas, que passam a ser os nomes
+ * das variáveis disponíveis no modelo da mensagem.
+ * </p>
+ * <p>
+ * Campos entre aspas duplas podem conter o delimitador e aspas escapadas ({@code ""}),
+ * mas não quebras de linha.
+ * </p>
+ */
+public final class CsvRecipientSource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CsvRecipientSource() {
+    }
+
+    /**
+     * Lê os destinatários de um arquivo CSV em UTF-8.
+     *
+     * @param file        Arquivo CSV
+     * @param phoneColumn Nome da coluna com o telefone do destinatário
+     * @param delimiter   Delimitador das colunas
+     * @return Flux com os destinatários, na ordem do arquivo
+     */
+    public static Flux<CampaignRecipient> read(Path file,
+                                               String phoneColumn,
+                                               char delimiter) {
+        return Flux.using(
+                () -> new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE),
+                reader -> {
+                    List<String> header = parseLine(readLine(reader), delimiter);
+
+                    if (!header.contains(phoneColumn)) {
+                        return Flux.error(new IllegalArgumentException("Coluna de telefone não encontrada: " + phoneColumn));
+                    }
+
+                    return Flux.fromStream(reader.lines())
+                            .filter(line -> !line.isBlank())
+                            .map(line -> toRecipient(header, parseLine(line, delimiter), phoneColumn));
+                },
+                CsvRecipientSource::close
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Converte uma linha em destinatário.
+     *
+     * @param header      Nomes das colunas
+     * @param values      Valores da linha
+     * @param phoneColumn Nome da coluna com o telefone
+     * @return Destinatário
+     */
+    private static CampaignRecipient toRecipient(List<String> header,
+                                                 List<String> values,
+                                                 String phoneColumn) {
+        Map<String, String> variables = new HashMap<>(header.size() * 2);
+
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            variables.put(header.get(i), values.get(i));
+        }
+
+        return CampaignRecipient.builder()
+                .phone(variables.get(phoneColumn))
+                .variables(variables)
+                .build();
+    }
+
+    /**
+     * Separa as colunas de uma linha, respeitando campos entre aspas.
+     *
+     * @param line      Linha do arquivo
+     * @param delimiter Delimitador das colunas
+     * @return Valores das colunas
+     */
+    private static List<String> parseLine(String line,
+                                          char delimiter) {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        values.add(field.toString().trim());
+        return values;
+    }
+
+    /**
+     * Lê a linha de cabeçalho do arquivo.
+     *
+     * @param reader Leitor do arquivo
+     * @return Linha de cabeçalho
+     */
+    private static String readLine(BufferedReader reader) {
+        try {
+            String line = reader.readLine();
+
+            if (line == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio");
+            }
+
+            return line.startsWith("\uFEFF") ? line.substring(1) : line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fecha o arquivo ao fim da leitura.
+     *
+     * @param reader Leitor do arquivo
+     */
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
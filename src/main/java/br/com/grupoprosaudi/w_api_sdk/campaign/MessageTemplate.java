@@ -0,0 +1,94 @@
+package br.com.grupoprosaudi.w_api_sdk.campaign;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modelo de texto pré-compilado com variáveis no formato {@code {{nome}}}.
+ * <p>
+ * O texto é analisado uma única vez em {@link #compile(String)}, gerando uma lista de
+ * trechos fixos e variáveis. A renderização apenas concatena os trechos, sem expressões
+ * regulares nem nova análise do texto a cada mensagem.
+ * </p>
+ * <p>
+ * Variáveis ausentes são renderizadas como texto vazio. Instâncias são imutáveis e
+ * podem ser compartilhadas entre threads.
+ * </p>
+ */
+public final class MessageTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<String> literals;
+    private final List<String> variables;
+    private final int literalLength;
+
+    private MessageTemplate(List<String> literals,
+                            List<String> variables) {
+        this.literals = literals;
+        this.variables = variables;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Analisa o texto e cria o modelo.
+     *
+     * @param template Texto com variáveis no formato {@code {{nome}}}
+     * @return Modelo pré-compilado
+     */
+    public static MessageTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+
+        while (true) {
+            int open = template.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : template.indexOf(CLOSE, open + OPEN.length());
+
+            if (open < 0 || close < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+
+            literals.add(template.substring(position, open));
+            variables.add(template.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+
+        return new MessageTemplate(List.copyOf(literals), List.copyOf(variables));
+    }
+
+    /**
+     * Renderiza o modelo com os valores informados.
+     *
+     * @param values Valores das variáveis, por nome
+     * @return Texto renderizado
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder(literalLength + 16 * variables.size());
+
+        for (int i = 0; i < variables.size(); i++) {
+            builder.append(literals.get(i));
+
+            String value = values.get(variables.get(i));
+
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+
+        return builder.append(literals.get(variables.size())).toString();
+    }
+
+    /**
+     * Retorna os nomes das variáveis utilizadas no modelo, na ordem em que aparecem.
+     *
+     * @return Nomes das variáveis
+     */
+    public List<String> getVariables() {
+        return Collections.unmodifiableList(variables);
+    }
+}
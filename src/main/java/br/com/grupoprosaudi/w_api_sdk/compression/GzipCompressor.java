@@ -0,0 +1,119 @@
+package br.com.grupoprosaudi.w_api_sdk.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compressor gzip com reaproveitamento de instâncias de {@link Deflater}.
+ * <p>
+ * Criar um {@link Deflater} aloca memória nativa e é relativamente caro. Esta classe
+ * mantém um pool limitado de compressores que são reiniciados e devolvidos após o uso,
+ * produzindo o formato gzip (RFC 1952) sem depender de {@code GZIPOutputStream}.
+ * </p>
+ * <p>
+ * É segura para uso concorrente. Quando o pool está vazio, um compressor temporário
+ * é criado e descartado ao final.
+ * </p>
+ */
+public class GzipCompressor {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final BlockingQueue<Deflater> pool;
+    private final int level;
+
+    /**
+     * Cria um compressor gzip.
+     *
+     * @param poolSize Quantidade máxima de compressores mantidos no pool
+     * @param level    Nível de compressão, de 1 (mais rápido) a 9 (menor tamanho)
+     * @throws IllegalArgumentException se o nível estiver fora do intervalo
+     */
+    public GzipCompressor(int poolSize,
+                          int level) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Nível de compressão inválido: " + level);
+        }
+
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.level = level;
+    }
+
+    /**
+     * Comprime os dados informados no formato gzip.
+     *
+     * @param data Dados a serem comprimidos
+     * @return Dados comprimidos
+     */
+    public byte[] compress(byte[] data) {
+        Deflater deflater = acquire();
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            output.write(HEADER, 0, HEADER.length);
+
+            deflater.setInput(data);
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(data);
+
+            writeInt(output, (int) crc.getValue());
+            writeInt(output, data.length);
+
+            return output.toByteArray();
+        } finally {
+            release(deflater);
+        }
+    }
+
+    /**
+     * Obtém um compressor do pool ou cria um novo.
+     *
+     * @return Compressor pronto para uso
+     */
+    private Deflater acquire() {
+        Deflater deflater = pool.poll();
+        return deflater != null ? deflater : new Deflater(level, true);
+    }
+
+    /**
+     * Reinicia o compressor e o devolve ao pool, ou o descarta se o pool estiver cheio.
+     *
+     * @param deflater Compressor utilizado
+     */
+    private void release(Deflater deflater) {
+        deflater.reset();
+
+        if (!pool.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Escreve um inteiro de 32 bits em little-endian, conforme o formato gzip.
+     *
+     * @param output Destino
+     * @param value  Valor a ser escrito
+     */
+    private static void writeInt(ByteArrayOutputStream output, int value) {
+        output.write(value & 0xff);
+        output.write((value >> 8) & 0xff);
+        output.write((value >> 16) & 0xff);
+        output.write((value >> 24) & 0xff);
+    }
+}
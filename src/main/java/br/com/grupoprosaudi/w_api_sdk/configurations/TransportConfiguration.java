@@ -0,0 +1,65 @@
+package br.com.grupoprosaudi.w_api_sdk.configurations;
+
+import br.com.grupoprosaudi.w_api_sdk.compression.GzipCompressor;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import br.com.grupoprosaudi.w_api_sdk.transport.TracingTransport;
+import br.com.grupoprosaudi.w_api_sdk.transport.WAPITransport;
+import br.com.grupoprosaudi.w_api_sdk.transport.WebClientTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Configuração do transporte utilizado pelos serviços do SDK W-API.
+ * <p>
+ * Os serviços se comunicam com a W-API através do {@link WebClient} do SDK. Com
+ * {@code w-api-sdk.emulator.enabled=true}, o próprio {@link WebClient} passa a ser
+ * atendido pelo emulador em memória, sem acesso à rede (ver {@link WebClientConfiguration}).
+ * </p>
+ * <p>
+ * Com {@code w-api-sdk.tracing.enabled=true}, o transporte é envolvido por um
+ * {@link TracingTransport}, que registra uma observação por requisição.
+ * </p>
+ * <p>
+ * Caso a aplicação registre seu próprio bean de {@link WAPITransport}, ele é
+ * utilizado no lugar do transporte HTTP.
+ * </p>
+ */
+@Configuration("WAPISDKTransportConfiguration")
+public class TransportConfiguration {
+
+    /**
+     * Cria o transporte utilizado pelos serviços do SDK.
+     *
+     * @param webClient           Cliente HTTP configurado para comunicação com a W-API
+     * @param objectMapper        Mapeador JSON do SDK
+     * @param gzipCompressor      Compressor utilizado nos corpos de requisição
+     * @param observationRegistry Registro de observações da aplicação, se existir
+     * @param properties          Propriedades de configuração do SDK
+     * @return o transporte HTTP, opcionalmente com rastreamento
+     */
+    @Bean(name = "WAPISDKTransport")
+    @ConditionalOnMissingBean(WAPITransport.class)
+    public WAPITransport wAPITransport(@Qualifier("WAPISDKWebClient") WebClient webClient,
+                                       @Qualifier("WAPISDKObjectMapper") ObjectMapper objectMapper,
+                                       @Qualifier("WAPISDKGzipCompressor") GzipCompressor gzipCompressor,
+                                       ObjectProvider<ObservationRegistry> observationRegistry,
+                                       WAPISDKProperties properties) {
+        WAPITransport transport = new WebClientTransport(webClient, objectMapper, gzipCompressor, properties.getCompression());
+
+        if (properties.getTracing().isEnabled()) {
+            transport = new TracingTransport(
+                    transport,
+                    observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                    properties.getTracing().getSampleRate()
+            );
+        }
+
+        return transport;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.grupoprosaudi.w_api_sdk.configurations;
 
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 
 /**
@@ -20,10 +22,21 @@ import org.springframework.context.annotation.ComponentScan;
  * como beans no contexto da aplicação Spring.
  * </p>
  * <p>
+ * A anotação {@link EnableConfigurationProperties} registra as propriedades
+ * {@link WAPISDKProperties}, que permitem ajustar os recursos opcionais do SDK
+ * através do prefixo {@code w-api-sdk}.
+ * </p>
+ * <p>
+ * Com {@code w-api-sdk.warm-up.enabled=true}, o SDK executa uma fase de aquecimento
+ * na inicialização (DNS, conexões e serializadores), descrita em
+ * {@link br.com.grupoprosaudi.w_api_sdk.services.WarmUpService}.
+ * </p>
+ * <p>
  * Este SDK facilita a integração com os serviços da W-API
  * </p>
  */
 @AutoConfiguration
 @ComponentScan("br.com.grupoprosaudi.w_api_sdk")
+@EnableConfigurationProperties(WAPISDKProperties.class)
 public class WAPISDKConfiguration {
 }
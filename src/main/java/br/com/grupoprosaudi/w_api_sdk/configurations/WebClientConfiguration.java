@@ -1,11 +1,30 @@
 package br.com.grupoprosaudi.w_api_sdk.configurations;
 
+import br.com.grupoprosaudi.w_api_sdk.compression.GzipCompressor;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import br.com.grupoprosaudi.w_api_sdk.tracing.HttpClientTracing;
+import br.com.grupoprosaudi.w_api_sdk.transport.EmulatorClientHttpConnector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.resolver.AddressResolverGroup;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import reactor.netty.transport.NameResolverProvider;
 
 /**
  * Configuração do cliente HTTP reativo para o SDK W-API.
@@ -19,6 +38,7 @@ import reactor.core.publisher.Mono;
  *   <li>URL base da API W-API</li>
  *   <li>Cabeçalhos HTTP padrão para comunicação JSON</li>
  *   <li>Filtro global para interceptar respostas HTTP</li>
+ *   <li>Pool de conexões e {@link ObjectMapper} próprios do SDK</li>
  * </ul>
  *
  * <p>
@@ -31,6 +51,178 @@ import reactor.core.publisher.Mono;
 @Configuration("WAPISDKWebClientConfiguration")
 public class WebClientConfiguration {
 
+    /**
+     * URL base da API W-API.
+     */
+    public static final String BASE_URL = "https://api.w-api.app/v1";
+
+    /**
+     * Cria o pool de conexões utilizado na comunicação com a W-API.
+     * <p>
+     * O pool é dedicado ao SDK, de modo que as conexões mantidas abertas
+     * (keep-alive) sejam reaproveitadas apenas pelas requisições à W-API.
+     * </p>
+     * <p>
+     * Com HTTP/2 habilitado, a alocação de conexões passa a considerar a quantidade
+     * de streams simultâneos por conexão, definida em {@code w-api-sdk.http2}. A mesma
+     * estratégia é aplicada às conexões HTTP/1.1 quando o servidor não negocia HTTP/2,
+     * por isso o limite de conexões é o mesmo do pool sem HTTP/2 (ver
+     * {@link #maxConnections(WAPISDKProperties)}), e a fila de espera comporta todos
+     * os streams das conexões permitidas.
+     * </p>
+     *
+     * @param properties Propriedades de configuração do SDK
+     * @return uma instância configurada de {@link ConnectionProvider}
+     */
+    @Bean(name = "WAPISDKConnectionProvider", destroyMethod = "dispose", defaultCandidate = false)
+    public ConnectionProvider wAPIConnectionProvider(WAPISDKProperties properties) {
+        WAPISDKProperties.Pool pool = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("w-api-sdk")
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout());
+
+        if (properties.getHttp2().isEnabled()) {
+            WAPISDKProperties.Http2 http2 = properties.getHttp2();
+            int maxConnections = maxConnections(properties);
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                            .maxConcurrentStreams(http2.getMaxConcurrentStreams())
+                            .maxConnections(maxConnections)
+                            .minConnections(Math.min(http2.getMinConnections(), maxConnections))
+                            .build())
+                    .pendingAcquireMaxCount((int) Math.min(Integer.MAX_VALUE, maxConnections * http2.getMaxConcurrentStreams()));
+        } else if (pool.getMaxConnections() != null) {
+            builder.maxConnections(pool.getMaxConnections());
+        }
+
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Calcula a quantidade máxima de conexões do pool do SDK.
+     * <p>
+     * Com HTTP/2 habilitado, utiliza {@code w-api-sdk.http2.max-connections}, se informado.
+     * Caso contrário, utiliza {@code w-api-sdk.pool.max-connections} ou o padrão do
+     * Reactor Netty.
+     * </p>
+     *
+     * @param properties Propriedades de configuração do SDK
+     * @return Quantidade máxima de conexões
+     */
+    public static int maxConnections(WAPISDKProperties properties) {
+        if (properties.getHttp2().isEnabled() && properties.getHttp2().getMaxConnections() != null) {
+            return properties.getHttp2().getMaxConnections();
+        }
+
+        Integer maxConnections = properties.getPool().getMaxConnections();
+        return maxConnections != null ? maxConnections : ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+    }
+
+    /**
+     * Cria o resolvedor DNS utilizado pelo cliente HTTP quando o aquecimento está habilitado.
+     * <p>
+     * As resoluções são mantidas em cache exatamente pelo tempo configurado em
+     * {@code w-api-sdk.warm-up.dns-cache-ttl}, independentemente do TTL informado pelo
+     * servidor DNS. O cache é compartilhado por todos os event loops, de modo que a
+     * resolução feita no aquecimento é aproveitada pelas requisições seguintes.
+     * </p>
+     *
+     * @param properties Propriedades de configuração do SDK
+     * @return uma instância configurada de {@link AddressResolverGroup}
+     */
+    @Bean(name = "WAPISDKAddressResolverGroup", destroyMethod = "close", defaultCandidate = false)
+    public AddressResolverGroup<?> wAPIAddressResolverGroup(WAPISDKProperties properties) {
+        return NameResolverProvider.builder()
+                .cacheMinTimeToLive(properties.getWarmUp().getDnsCacheTtl())
+                .cacheMaxTimeToLive(properties.getWarmUp().getDnsCacheTtl())
+                .build()
+                .newNameResolverGroup(HttpResources.get(), LoopResources.DEFAULT_NATIVE);
+    }
+
+    /**
+     * Cria o cliente HTTP do Reactor Netty utilizado pelo {@link WebClient}.
+     * <p>
+     * Quando o aquecimento está habilitado, as resoluções DNS passam a ser feitas pelo
+     * resolvedor do SDK, que as mantém em cache pelo tempo configurado em
+     * {@code w-api-sdk.warm-up.dns-cache-ttl}.
+     * </p>
+     * <p>
+     * Quando o HTTP/2 está habilitado, o protocolo é negociado via ALPN durante o
+     * handshake TLS, com retorno para HTTP/1.1.
+     * </p>
+     * <p>
+     * Com {@code w-api-sdk.compression.enabled=true}, o cliente envia o cabeçalho
+     * {@code Accept-Encoding} e descomprime as respostas automaticamente.
+     * </p>
+     * <p>
+     * Com {@code w-api-sdk.tracing.enabled=true}, são registrados os ganchos de
+     * {@link HttpClientTracing}, que medem cada etapa das requisições rastreadas.
+     * </p>
+     *
+     * @param connectionProvider Pool de conexões do SDK
+     * @param resolverGroup      Resolvedor DNS do SDK
+     * @param properties         Propriedades de configuração do SDK
+     * @return uma instância configurada de {@link HttpClient}
+     */
+    @Bean(name = "WAPISDKHttpClient", defaultCandidate = false)
+    public HttpClient wAPIHttpClient(@Qualifier("WAPISDKConnectionProvider") ConnectionProvider connectionProvider,
+                                     @Qualifier("WAPISDKAddressResolverGroup") AddressResolverGroup<?> resolverGroup,
+                                     WAPISDKProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true);
+
+        if (properties.getWarmUp().isEnabled()) {
+            httpClient = httpClient.resolver(resolverGroup);
+        }
+
+        if (properties.getCompression().isEnabled()) {
+            httpClient = httpClient.compress(true);
+        }
+
+        if (properties.getHttp2().isEnabled()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        if (properties.getTracing().isEnabled()) {
+            httpClient = HttpClientTracing.instrument(httpClient);
+        }
+
+        return httpClient;
+    }
+
+    /**
+     * Cria o {@link ObjectMapper} utilizado na serialização das requisições e respostas.
+     * <p>
+     * Possui a mesma configuração do mapeador padrão do Spring, mas é exposto como
+     * bean para que seus serializadores possam ser aquecidos antecipadamente.
+     * Não é candidato padrão à injeção, evitando substituir o {@link ObjectMapper}
+     * da aplicação.
+     * </p>
+     *
+     * @return uma instância configurada de {@link ObjectMapper}
+     */
+    @Bean(name = "WAPISDKObjectMapper", defaultCandidate = false)
+    public ObjectMapper wAPIObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * Cria o compressor gzip utilizado nos corpos de requisição acima do limite configurado.
+     *
+     * @param properties Propriedades de configuração do SDK
+     * @return uma instância configurada de {@link GzipCompressor}
+     */
+    @Bean(name = "WAPISDKGzipCompressor", defaultCandidate = false)
+    public GzipCompressor wAPIGzipCompressor(WAPISDKProperties properties) {
+        return new GzipCompressor(
+                properties.getCompression().getPoolSize(),
+                properties.getCompression().getLevel()
+        );
+    }
+
     /**
      * Cria e configura um {@link WebClient} para comunicação com a API W-API.
      * <p>
@@ -42,6 +234,8 @@ public class WebClientConfiguration {
      *   <li>Cabeçalho padrão Accept: application/json</li>
      *   <li>Cabeçalho padrão Content-Type: application/json</li>
      *   <li>Filtro global para interceptar respostas HTTP</li>
+     *   <li>Conector Reactor Netty com o pool de conexões do SDK, ou o emulador em memória
+     *       da W-API com {@code w-api-sdk.emulator.enabled=true}</li>
      * </ul>
      * <p>
      * O filtro global verifica os códigos de status da resposta HTTP:
@@ -59,13 +253,32 @@ public class WebClientConfiguration {
      * requisições HTTP reativas à API da W-API.
      * </p>
      *
+     * @param httpClient   Cliente HTTP do Reactor Netty
+     * @param objectMapper Mapeador JSON do SDK
+     * @param properties   Propriedades de configuração do SDK
      * @return uma instância configurada de {@link WebClient}
      */
     @Bean(name = "WAPISDKWebClient")
-    public WebClient wAPIWebClient() {
+    public WebClient wAPIWebClient(@Qualifier("WAPISDKHttpClient") HttpClient httpClient,
+                                   @Qualifier("WAPISDKObjectMapper") ObjectMapper objectMapper,
+                                   WAPISDKProperties properties) {
+
+        ClientHttpConnector connector;
+
+        if (properties.getEmulator().isEnabled()) {
+            log.warn("Emulador da W-API habilitado: nenhuma mensagem será enviada ao serviço real");
+            connector = new EmulatorClientHttpConnector(properties.getEmulator(), objectMapper);
+        } else {
+            connector = new ReactorClientHttpConnector(httpClient);
+        }
 
         return WebClient.builder()
-                .baseUrl("https://api.w-api.app/v1")
+                .baseUrl(BASE_URL)
+                .clientConnector(connector)
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("Content-Type", "application/json")
                 .filter((request, next) -> next.exchange(request)
@@ -0,0 +1,42 @@
+package br.com.grupoprosaudi.w_api_sdk.dtos.events;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.InstanceResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Evento publicado quando o estado de uma instância monitorada muda.
+ * <p>
+ * Contém os instantâneos anterior e atual da instância, além dos nomes
+ * dos campos que sofreram alteração ({@code connected}, {@code paymentStatus}
+ * e/ou {@code expires}).
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstanceStatusEvent implements Serializable {
+
+    public static final String CONNECTED = "connected";
+    public static final String PAYMENT_STATUS = "paymentStatus";
+    public static final String EXPIRES = "expires";
+
+    private String instanceId;
+
+    private InstanceResponse previous;
+
+    private InstanceResponse current;
+
+    private Set<String> changedFields;
+
+    private Instant detectedAt;
+}
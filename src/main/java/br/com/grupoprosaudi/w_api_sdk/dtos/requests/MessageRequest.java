@@ -1,5 +1,6 @@
 package br.com.grupoprosaudi.w_api_sdk.dtos.requests;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
@@ -23,4 +24,12 @@ public abstract class MessageRequest implements Serializable {
 
     @JsonProperty("delayMessage")
     private Integer delayMessage;
+
+    /**
+     * Chave de idempotência opcional, utilizada apenas pelo SDK e não enviada à W-API.
+     * Quando ausente e a idempotência estiver habilitada, a chave é calculada a partir
+     * do telefone e do conteúdo da mensagem.
+     */
+    @JsonIgnore
+    private String idempotencyKey;
 }
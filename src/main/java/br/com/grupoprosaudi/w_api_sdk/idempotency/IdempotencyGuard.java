@@ -0,0 +1,254 @@
+package br.com.grupoprosaudi.w_api_sdk.idempotency;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.AudioMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.DocumentMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.ImageMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.TextMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.VideoMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Proteção contra envios duplicados da mesma mensagem.
+ * <p>
+ * Cada envio é identificado por uma chave de idempotência, informada pelo chamador em
+ * {@link MessageRequest#getIdempotencyKey()} ou calculada a partir da instância, do
+ * tipo de mensagem, do telefone e de um hash SHA-256 do conteúdo.
+ * </p>
+ * <ul>
+ *   <li>Envios simultâneos com a mesma chave compartilham a mesma requisição à W-API</li>
+ *   <li>Envios posteriores, dentro da janela configurada, recebem a resposta já obtida</li>
+ * </ul>
+ * <p>
+ * As chaves enviadas ficam em um filtro de Bloom com janela de tempo, que descarta
+ * sem bloqueio a grande maioria das consultas de mensagens novas. As respostas ficam
+ * em um cache LRU limitado, que é a fonte exata da deduplicação. Uma chave que já
+ * saiu do cache LRU é enviada novamente.
+ * </p>
+ * <p>
+ * Envios com erro não são lembrados, permitindo que o chamador tente novamente.
+ * </p>
+ */
+@Slf4j
+public class IdempotencyGuard {
+
+    private final long windowNanos;
+    private final RotatingBloomFilter bloomFilter;
+    private final Map<String, Mono<MessageResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> responses;
+
+    /**
+     * Cria a proteção contra envios duplicados.
+     *
+     * @param properties Configurações de idempotência
+     */
+    public IdempotencyGuard(WAPISDKProperties.Idempotency properties) {
+        int maxEntries = Math.max(1, properties.getMaxEntries());
+
+        this.windowNanos = properties.getWindow().toNanos();
+        this.bloomFilter = new RotatingBloomFilter(
+                properties.getExpectedKeys(),
+                properties.getFalsePositiveRate(),
+                properties.getWindow()
+        );
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Executa o envio apenas se a mensagem ainda não tiver sido enviada.
+     *
+     * @param path           Caminho da API para o tipo de mensagem
+     * @param instanceId     ID da instância para envio da mensagem
+     * @param messageRequest Objeto da requisição
+     * @param send           Produz o envio efetivo à W-API
+     * @return Mono com a resposta do envio, compartilhada ou previamente obtida
+     */
+    public Mono<MessageResponse> execute(String path,
+                                         String instanceId,
+                                         MessageRequest messageRequest,
+                                         Supplier<Mono<MessageResponse>> send) {
+        return Mono.defer(() -> {
+            String key = keyOf(path, instanceId, messageRequest);
+
+            if (bloomFilter.mightContain(key)) {
+                MessageResponse cached = getCached(key);
+
+                if (cached != null) {
+                    log.debug("Envio duplicado ignorado pela idempotência do SDK W-API: {}", key);
+                    return Mono.just(cached);
+                }
+            }
+
+            MessageResponse[] completed = new MessageResponse[1];
+            Mono<MessageResponse> shared = inFlight.computeIfAbsent(key, ignored -> {
+                // Repete a consulta ao filtro para evitar o bloqueio das respostas no caso comum
+                // de uma chave nova; a resposta só pode estar guardada se a chave já constar no filtro.
+                completed[0] = bloomFilter.mightContain(key) ? getCached(key) : null;
+                return completed[0] == null ? share(key, send) : null;
+            });
+
+            return shared != null ? shared : Mono.just(completed[0]);
+        });
+    }
+
+    /**
+     * Cria o envio compartilhado entre os chamadores simultâneos de uma chave.
+     * <p>
+     * A resposta é lembrada antes da remoção do envio em andamento, e o cache é
+     * consultado novamente ao criar um novo envio, de modo que um chamador que chegue
+     * entre a conclusão e a remoção receba a resposta lembrada.
+     * </p>
+     *
+     * @param key  Chave de idempotência
+     * @param send Produz o envio efetivo à W-API
+     * @return Mono compartilhado com a resposta do envio
+     */
+    private Mono<MessageResponse> share(String key,
+                                        Supplier<Mono<MessageResponse>> send) {
+        return send.get()
+                .doOnNext(response -> remember(key, response))
+                .doFinally(signal -> inFlight.remove(key))
+                .cache();
+    }
+
+    /**
+     * Registra a resposta de um envio concluído.
+     *
+     * @param key      Chave de idempotência
+     * @param response Resposta da W-API
+     */
+    private void remember(String key,
+                          MessageResponse response) {
+        bloomFilter.put(key);
+
+        synchronized (responses) {
+            responses.put(key, new CachedResponse(response, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Obtém a resposta lembrada de um envio, se ainda estiver dentro da janela.
+     *
+     * @param key Chave de idempotência
+     * @return Resposta lembrada, ou {@code null} se não houver
+     */
+    private MessageResponse getCached(String key) {
+        synchronized (responses) {
+            CachedResponse cached = responses.get(key);
+
+            if (cached == null) {
+                return null;
+            }
+
+            if (System.nanoTime() - cached.storedAt() > windowNanos) {
+                responses.remove(key);
+                return null;
+            }
+
+            return cached.response();
+        }
+    }
+
+    /**
+     * Obtém a chave informada pelo chamador ou calcula a chave do envio.
+     *
+     * @param path           Caminho da API para o tipo de mensagem
+     * @param instanceId     ID da instância para envio da mensagem
+     * @param messageRequest Objeto da requisição
+     * @return Chave de idempotência
+     */
+    private static String keyOf(String path,
+                                String instanceId,
+                                MessageRequest messageRequest) {
+        if (messageRequest.getIdempotencyKey() != null) {
+            return messageRequest.getIdempotencyKey();
+        }
+
+        MessageDigest digest = sha256();
+        update(digest, content(messageRequest));
+        update(digest, messageRequest.getDelayMessage() != null ? messageRequest.getDelayMessage().toString() : null);
+
+        return instanceId + ':' + path + ':' + messageRequest.getPhone() + ':' + HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Extrai o conteúdo relevante de cada tipo de mensagem.
+     *
+     * @param messageRequest Objeto da requisição
+     * @return Conteúdo da mensagem
+     */
+    private static String content(MessageRequest messageRequest) {
+        if (messageRequest instanceof TextMessageRequest textMessageRequest) {
+            return textMessageRequest.getMessage();
+        }
+
+        if (messageRequest instanceof ImageMessageRequest imageMessageRequest) {
+            return imageMessageRequest.getImage();
+        }
+
+        if (messageRequest instanceof DocumentMessageRequest documentMessageRequest) {
+            return documentMessageRequest.getExtension() + ':' + documentMessageRequest.getDocument();
+        }
+
+        if (messageRequest instanceof AudioMessageRequest audioMessageRequest) {
+            return audioMessageRequest.getAudio();
+        }
+
+        if (messageRequest instanceof VideoMessageRequest videoMessageRequest) {
+            return videoMessageRequest.getVideo();
+        }
+
+        return null;
+    }
+
+    /**
+     * Adiciona um valor ao hash, separando-o do próximo.
+     *
+     * @param digest Hash em cálculo
+     * @param value  Valor a ser adicionado
+     */
+    private static void update(MessageDigest digest,
+                               String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Cria uma instância do algoritmo SHA-256.
+     *
+     * @return Algoritmo SHA-256
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Resposta lembrada e o instante em que foi armazenada.
+     */
+    private record CachedResponse(MessageResponse response, long storedAt) {
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.grupoprosaudi.w_api_sdk.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Filtro de Bloom com janela de tempo, formado por duas gerações que se alternam.
+ * <p>
+ * As chaves são inseridas na geração atual e consultadas nas duas gerações. A cada
+ * janela a geração anterior é descartada e a atual passa a ser a anterior, de modo
+ * que uma chave é lembrada por no mínimo uma e no máximo duas janelas. O limite
+ * exato da janela deve ser aplicado por quem consulta o filtro.
+ * </p>
+ * <p>
+ * Inserções e consultas não utilizam bloqueios. Pode haver falsos positivos,
+ * na taxa configurada, mas nunca falsos negativos dentro da janela.
+ * </p>
+ */
+class RotatingBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long rotationNanos;
+    private final AtomicReference<Generations> generations;
+
+    /**
+     * Cria o filtro dimensionado para a quantidade de chaves e taxa de falsos positivos.
+     *
+     * @param expectedKeys      Quantidade esperada de chaves por geração
+     * @param falsePositiveRate Taxa desejada de falsos positivos (0 a 1)
+     * @param window            Janela de tempo em que as chaves são lembradas
+     */
+    RotatingBloomFilter(long expectedKeys,
+                        double falsePositiveRate,
+                        Duration window) {
+        long keys = Math.max(1, expectedKeys);
+        double rate = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long bits = (long) Math.ceil(-keys * Math.log(rate) / (Math.log(2) * Math.log(2)));
+
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * Math.log(2)));
+        this.rotationNanos = Math.max(1, window.toNanos());
+        this.generations = new AtomicReference<>(new Generations(newBits(), newBits(), System.nanoTime()));
+    }
+
+    /**
+     * Verifica se a chave pode ter sido inserida dentro da janela.
+     *
+     * @param key Chave consultada
+     * @return {@code false} se a chave certamente não foi inserida
+     */
+    boolean mightContain(String key) {
+        Generations current = rotateIfNeeded();
+        long hash = hash(key);
+
+        return contains(current.current, hash) || contains(current.previous, hash);
+    }
+
+    /**
+     * Insere a chave na geração atual.
+     *
+     * @param key Chave a ser inserida
+     */
+    void put(String key) {
+        AtomicLongArray bits = rotateIfNeeded().current;
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long value;
+
+            do {
+                value = bits.get(word);
+            } while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    /**
+     * Verifica se todos os bits da chave estão marcados em uma geração.
+     *
+     * @param bits Bits da geração
+     * @param hash Hash da chave
+     * @return {@code true} se todos os bits estiverem marcados
+     */
+    private boolean contains(AtomicLongArray bits,
+                             long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Alterna as gerações quando a janela tiver passado.
+     *
+     * @return Gerações vigentes
+     */
+    private Generations rotateIfNeeded() {
+        Generations current = generations.get();
+        long now = System.nanoTime();
+
+        if (now - current.rotatedAt < rotationNanos) {
+            return current;
+        }
+
+        AtomicLongArray previous = now - current.rotatedAt < 2 * rotationNanos ? current.current : newBits();
+        Generations rotated = new Generations(newBits(), previous, now);
+
+        return generations.compareAndSet(current, rotated) ? rotated : generations.get();
+    }
+
+    /**
+     * Aloca os bits de uma geração.
+     *
+     * @return Bits zerados
+     */
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    /**
+     * Calcula um hash de 64 bits (FNV-1a seguido de mistura) da chave.
+     *
+     * @param key Chave
+     * @return Hash da chave
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    /**
+     * Par de gerações vigentes e o instante da última alternância.
+     */
+    private record Generations(AtomicLongArray current, AtomicLongArray previous, long rotatedAt) {
+    }
+}
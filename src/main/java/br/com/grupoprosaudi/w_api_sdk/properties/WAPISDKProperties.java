@@ -0,0 +1,417 @@
+package br.com.grupoprosaudi.w_api_sdk.properties;
+
+import br.com.grupoprosaudi.w_api_sdk.sink.OverflowStrategy;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do SDK W-API.
+ * <p>
+ * Agrupa as opções ajustáveis pela aplicação cliente através do prefixo
+ * {@code w-api-sdk} (por exemplo, no {@code application.yml}).
+ * Todos os recursos opcionais possuem valores padrão conservadores.
+ * </p>
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "w-api-sdk")
+public class WAPISDKProperties {
+
+    /**
+     * Configurações do monitor de instâncias.
+     */
+    private Monitor monitor = new Monitor();
+
+    /**
+     * Configurações do pool de conexões HTTP.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * Configurações do protocolo HTTP/2.
+     */
+    private Http2 http2 = new Http2();
+
+    /**
+     * Configurações de compressão das requisições e respostas.
+     */
+    @Valid
+    private Compression compression = new Compression();
+
+    /**
+     * Configurações do aquecimento executado na inicialização.
+     */
+    private WarmUp warmUp = new WarmUp();
+
+    /**
+     * Configurações do emulador local da W-API.
+     */
+    private Emulator emulator = new Emulator();
+
+    /**
+     * Configurações do rastreamento das requisições.
+     */
+    private Tracing tracing = new Tracing();
+
+    /**
+     * Configurações da proteção contra envios duplicados.
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    /**
+     * Configurações do despachante de envios.
+     */
+    private Dispatcher dispatcher = new Dispatcher();
+
+    /**
+     * Configurações dos canais de envio com buffer limitado.
+     */
+    private SendSink sendSink = new SendSink();
+
+    /**
+     * Configurações do monitoramento periódico de instâncias.
+     */
+    @Getter
+    @Setter
+    public static class Monitor {
+
+        /**
+         * Intervalo base entre dois ciclos de consulta.
+         */
+        private Duration interval = Duration.ofSeconds(30);
+
+        /**
+         * Fração aleatória (0 a 1) aplicada sobre o intervalo para evitar
+         * que várias aplicações consultem a W-API ao mesmo tempo.
+         */
+        private double jitter = 0.2;
+
+        /**
+         * Quantidade máxima de consultas simultâneas em um ciclo.
+         */
+        private int concurrency = 8;
+
+        /**
+         * Tempo máximo de espera pela resposta de cada consulta.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Configurações do pool de conexões utilizado pelo cliente HTTP.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Quantidade máxima de conexões abertas com a W-API.
+         * Quando não informado, utiliza o padrão do Reactor Netty.
+         */
+        private Integer maxConnections;
+
+        /**
+         * Tempo máximo que uma conexão pode permanecer ociosa no pool.
+         * Quando não informado, as conexões ociosas não expiram.
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * Tempo máximo de espera por uma conexão livre no pool.
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+    }
+
+    /**
+     * Configurações do uso opcional de HTTP/2 na comunicação com a W-API.
+     * <p>
+     * Quando habilitado, o protocolo é negociado via ALPN sobre TLS, com retorno
+     * para HTTP/1.1 caso o servidor não suporte HTTP/2. Várias requisições passam
+     * a compartilhar a mesma conexão (multiplexação).
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class Http2 {
+
+        /**
+         * Habilita a negociação de HTTP/2.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Quantidade máxima de requisições simultâneas (streams) por conexão.
+         */
+        private long maxConcurrentStreams = 100;
+
+        /**
+         * Quantidade máxima de conexões abertas com a W-API com HTTP/2 habilitado.
+         * O limite vale também para as conexões HTTP/1.1, caso o servidor não negocie
+         * HTTP/2. Quando não informado, utiliza {@code w-api-sdk.pool.max-connections}
+         * ou o padrão do Reactor Netty. Novas conexões HTTP/2 só são abertas quando
+         * as existentes atingem {@link #maxConcurrentStreams}.
+         */
+        private Integer maxConnections;
+
+        /**
+         * Quantidade mínima de conexões HTTP/2 mantidas abertas.
+         */
+        private int minConnections = 1;
+    }
+
+    /**
+     * Configurações de compressão gzip na comunicação com a W-API.
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+
+        /**
+         * Solicita respostas comprimidas através do cabeçalho {@code Accept-Encoding}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Comprime o corpo das requisições acima de {@link #requestThreshold}.
+         * Deve ser habilitado apenas se o servidor aceitar {@code Content-Encoding: gzip}.
+         */
+        private boolean requestEnabled = false;
+
+        /**
+         * Tamanho mínimo do corpo da requisição para que seja comprimido.
+         */
+        private DataSize requestThreshold = DataSize.ofKilobytes(16);
+
+        /**
+         * Nível de compressão, de 1 (mais rápido) a 9 (menor tamanho).
+         * Valores fora do intervalo impedem a inicialização da aplicação.
+         */
+        @Min(1)
+        @Max(9)
+        private int level = 6;
+
+        /**
+         * Quantidade máxima de compressores reaproveitados entre requisições.
+         */
+        private int poolSize = 8;
+    }
+
+    /**
+     * Configurações do aquecimento opcional do SDK na inicialização da aplicação.
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /**
+         * Habilita o aquecimento na inicialização.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Quantidade de conexões abertas antecipadamente com a W-API.
+         */
+        private int connections = 4;
+
+        /**
+         * Tempo máximo de permanência das resoluções DNS em cache.
+         */
+        private Duration dnsCacheTtl = Duration.ofMinutes(5);
+
+        /**
+         * Bloqueia a inicialização da aplicação até o fim do aquecimento,
+         * atrasando a sinalização de prontidão (readiness).
+         */
+        private boolean blockStartup = false;
+
+        /**
+         * Tempo máximo de duração do aquecimento.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configurações do emulador local da W-API, utilizado em testes de carga.
+     * <p>
+     * Quando habilitado, nenhuma requisição é enviada à W-API: o {@code WebClient} do SDK
+     * passa a ser atendido em memória, com latência, falhas e limite de taxa simulados,
+     * mantendo codecs, filtro de erros, compressão e rastreamento.
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class Emulator {
+
+        /**
+         * Habilita o emulador no lugar do conector HTTP do Reactor Netty.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Distribuição utilizada para simular a latência das respostas.
+         */
+        private LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+
+        /**
+         * Latência média das respostas.
+         */
+        private Duration latencyMean = Duration.ZERO;
+
+        /**
+         * Dispersão da latência: metade da amplitude na distribuição uniforme
+         * ou desvio padrão na distribuição normal.
+         */
+        private Duration latencySpread = Duration.ZERO;
+
+        /**
+         * Fração (0 a 1) das requisições que devem falhar.
+         */
+        private double errorRate = 0.0;
+
+        /**
+         * Código HTTP simulado nas falhas injetadas.
+         */
+        private int errorStatus = 500;
+
+        /**
+         * Limite de requisições por segundo. Zero desabilita o limite.
+         */
+        private double rateLimit = 0.0;
+
+        /**
+         * Quantidade de requisições aceitas em rajada acima do limite de taxa.
+         */
+        private int rateLimitBurst = 1;
+    }
+
+    /**
+     * Configurações do rastreamento opcional das requisições à W-API.
+     * <p>
+     * Utiliza o {@code ObservationRegistry} do Micrometer registrado na aplicação,
+     * que pode exportar os spans para OpenTelemetry através do Micrometer Tracing.
+     * Apenas as requisições amostradas criam observações; as demais passam somente
+     * pelos ganchos do cliente HTTP, que consultam o contexto e marcam a conexão.
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class Tracing {
+
+        /**
+         * Habilita o rastreamento das requisições.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fração (0 a 1) das requisições rastreadas pelo SDK.
+         */
+        private double sampleRate = 1.0;
+    }
+
+    /**
+     * Configurações da proteção opcional contra envios duplicados de mensagens.
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        /**
+         * Habilita a proteção contra envios duplicados.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Janela de tempo em que um envio repetido é considerado duplicado.
+         */
+        private Duration window = Duration.ofMinutes(10);
+
+        /**
+         * Quantidade máxima de respostas mantidas em memória.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Quantidade esperada de envios distintos dentro de uma janela,
+         * utilizada no dimensionamento do filtro de Bloom.
+         */
+        private long expectedKeys = 100_000;
+
+        /**
+         * Taxa de falsos positivos do filtro de Bloom.
+         */
+        private double falsePositiveRate = 0.01;
+    }
+
+    /**
+     * Configurações do despachante que limita os envios simultâneos.
+     */
+    @Getter
+    @Setter
+    public static class Dispatcher {
+
+        /**
+         * Quantidade máxima de envios simultâneos do despachante.
+         */
+        private int concurrency = 64;
+    }
+
+    /**
+     * Configurações padrão dos canais de envio com buffer limitado.
+     */
+    @Getter
+    @Setter
+    public static class SendSink {
+
+        /**
+         * Capacidade do buffer de pedidos de cada canal.
+         */
+        private int capacity = 1024;
+
+        /**
+         * Quantidade máxima de envios simultâneos de cada canal. Independentemente deste
+         * valor, a soma dos envios de todos os canais é limitada pela capacidade do pool de
+         * conexões do SDK; quando não informado, cada canal pode ocupar todo esse limite.
+         */
+        private Integer concurrency;
+
+        /**
+         * Comportamento do canal quando o buffer está cheio.
+         */
+        private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+    }
+
+    /**
+     * Distribuições de latência suportadas pelo emulador.
+     */
+    public enum LatencyDistribution {
+
+        /**
+         * Sempre a latência média.
+         */
+        FIXED,
+
+        /**
+         * Uniforme entre média menos dispersão e média mais dispersão.
+         */
+        UNIFORM,
+
+        /**
+         * Normal com a média e o desvio padrão configurados.
+         */
+        NORMAL,
+
+        /**
+         * Exponencial com a média configurada.
+         */
+        EXPONENTIAL
+    }
+}
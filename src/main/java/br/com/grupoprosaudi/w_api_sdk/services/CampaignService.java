@@ -0,0 +1,323 @@
+package br.com.grupoprosaudi.w_api_sdk.services;
+
+import br.com.grupoprosaudi.w_api_sdk.campaign.CampaignOptions;
+import br.com.grupoprosaudi.w_api_sdk.campaign.CampaignRecipient;
+import br.com.grupoprosaudi.w_api_sdk.campaign.CampaignResult;
+import br.com.grupoprosaudi.w_api_sdk.campaign.MessageTemplate;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.TextMessageRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Serviço para envio de campanhas: uma mensagem modelo para uma lista de destinatários.
+ * <p>
+ * Os destinatários são consumidos sob demanda a partir de um {@link Flux} (por exemplo,
+ * de {@link br.com.grupoprosaudi.w_api_sdk.campaign.CsvRecipientSource}), e cada mensagem
+ * é enviada pelo {@link MessageService} com concorrência limitada. O consumo de memória
+ * não depende do tamanho da lista.
+ * </p>
+ * <p>
+ * Opcionalmente, os resultados são gravados em arquivo à medida que os envios terminam,
+ * e um ponto de controle registra a posição a partir da qual todos os destinatários
+ * anteriores já foram processados. Executar novamente a campanha com o mesmo ponto de
+ * controle e a mesma origem retoma o envio dessa posição. Destinatários concluídos
+ * fora de ordem após o último ponto de controle podem ser enviados novamente; habilite
+ * a idempotência do SDK para evitar duplicidades nesse caso.
+ * </p>
+ */
+@Slf4j
+@Service("WAPISDKCampaignService")
+public class CampaignService {
+
+    private static final String RESULTS_HEADER = "position;phone;status;messageId;error";
+
+    private final MessageService messageService;
+
+    /**
+     * Construtor para injeção do serviço de mensagens.
+     *
+     * @param messageService Serviço utilizado no envio das mensagens
+     */
+    public CampaignService(@Qualifier("WAPISDKMessageService") MessageService messageService) {
+        this.messageService = messageService;
+    }
+
+    /**
+     * Envia uma mensagem de texto, renderizada a partir do modelo, para cada destinatário.
+     *
+     * @param accessToken Token de acesso para autenticação na API
+     * @param instanceId  ID da instância para envio das mensagens
+     * @param template    Modelo pré-compilado do texto da mensagem
+     * @param recipients  Destinatários da campanha
+     * @param options     Opções de execução da campanha
+     * @return Flux com o resultado de cada envio, na ordem de conclusão
+     */
+    public Flux<CampaignResult> runTextCampaign(String accessToken,
+                                                String instanceId,
+                                                MessageTemplate template,
+                                                Flux<CampaignRecipient> recipients,
+                                                CampaignOptions options) {
+        return run(accessToken, instanceId, recipients, recipient -> TextMessageRequest.builder()
+                .phone(recipient.getPhone())
+                .message(template.render(recipient.getVariables()))
+                .build(), options);
+    }
+
+    /**
+     * Envia uma mensagem de qualquer tipo para cada destinatário.
+     *
+     * @param accessToken Token de acesso para autenticação na API
+     * @param instanceId  ID da instância para envio das mensagens
+     * @param recipients  Destinatários da campanha
+     * @param renderer    Cria a requisição de cada destinatário
+     * @param options     Opções de execução da campanha
+     * @return Flux com o resultado de cada envio, na ordem de conclusão
+     */
+    public Flux<CampaignResult> run(String accessToken,
+                                    String instanceId,
+                                    Flux<CampaignRecipient> recipients,
+                                    Function<CampaignRecipient, ? extends MessageRequest> renderer,
+                                    CampaignOptions options) {
+        return Flux.usingWhen(
+                Mono.fromCallable(() -> new Progress(options)),
+                progress -> recipients.index()
+                        .skip(progress.watermark)
+                        .flatMap(indexed -> send(accessToken, instanceId, indexed.getT1(), indexed.getT2(), renderer),
+                                Math.max(1, options.getConcurrency()))
+                        .publishOn(progress.scheduler)
+                        .doOnNext(progress::record),
+                Progress::closeOnScheduler,
+                (progress, error) -> progress.closeOnScheduler(),
+                Progress::closeOnScheduler
+        );
+    }
+
+    /**
+     * Envia a mensagem de um destinatário, convertendo falhas em resultado.
+     *
+     * @param accessToken Token de acesso para autenticação na API
+     * @param instanceId  ID da instância para envio da mensagem
+     * @param position    Posição do destinatário na origem
+     * @param recipient   Destinatário
+     * @param renderer    Cria a requisição do destinatário
+     * @return Mono com o resultado do envio
+     */
+    private Mono<CampaignResult> send(String accessToken,
+                                      String instanceId,
+                                      long position,
+                                      CampaignRecipient recipient,
+                                      Function<CampaignRecipient, ? extends MessageRequest> renderer) {
+        return Mono.defer(() -> messageService.sendMessageAsync(accessToken, instanceId, renderer.apply(recipient)))
+                .map(response -> CampaignResult.builder()
+                        .position(position)
+                        .phone(recipient.getPhone())
+                        .success(true)
+                        .messageId(response.getMessageId())
+                        .build())
+                .onErrorResume(error -> Mono.just(CampaignResult.builder()
+                        .position(position)
+                        .phone(recipient.getPhone())
+                        .success(false)
+                        .error(error.getMessage())
+                        .build()));
+    }
+
+    /**
+     * Acompanhamento de uma execução: arquivo de resultados e ponto de controle.
+     * <p>
+     * O ponto de controle guarda a menor posição ainda não concluída. As posições
+     * concluídas fora de ordem ficam pendentes até que as anteriores terminem.
+     * </p>
+     * <p>
+     * O registro dos resultados e o fechamento ocorrem na mesma thread, de um
+     * {@link Scheduler} exclusivo da execução. Assim, ao cancelar a campanha, o
+     * fechamento aguarda o registro em andamento em vez de concorrer com ele.
+     * </p>
+     */
+    private static final class Progress {
+
+        private final Path checkpointFile;
+        private final int checkpointInterval;
+        private final BufferedWriter resultsWriter;
+        private final TreeSet<Long> completedAhead = new TreeSet<>();
+        private final Scheduler scheduler;
+
+        private long watermark;
+        private long recorded;
+
+        Progress(CampaignOptions options) throws IOException {
+            this.checkpointFile = options.getCheckpointFile();
+            this.checkpointInterval = Math.max(1, options.getCheckpointInterval());
+            this.watermark = readCheckpoint(checkpointFile);
+            this.resultsWriter = openResults(options.getResultsFile());
+            this.scheduler = Schedulers.single(Schedulers.boundedElastic());
+
+            if (watermark > 0) {
+                log.info("Retomando campanha W-API a partir da posição {}", watermark);
+            }
+        }
+
+        /**
+         * Registra o resultado de um envio.
+         *
+         * @param result Resultado do envio
+         */
+        void record(CampaignResult result) {
+            writeResult(result);
+
+            if (result.getPosition() == watermark) {
+                watermark++;
+
+                while (completedAhead.remove(watermark)) {
+                    watermark++;
+                }
+            } else {
+                completedAhead.add(result.getPosition());
+            }
+
+            if (++recorded % checkpointInterval == 0) {
+                checkpoint();
+            }
+        }
+
+        /**
+         * Agenda o fechamento na thread em que os resultados são registrados.
+         *
+         * @return Mono completado após o fechamento
+         */
+        Mono<Void> closeOnScheduler() {
+            return Mono.fromRunnable(this::close)
+                    .subscribeOn(scheduler)
+                    .doFinally(signal -> scheduler.dispose())
+                    .then();
+        }
+
+        /**
+         * Grava o ponto de controle final e fecha o arquivo de resultados.
+         */
+        private void close() {
+            checkpoint();
+
+            if (resultsWriter != null) {
+                try {
+                    resultsWriter.close();
+                } catch (IOException e) {
+                    log.warn("Falha ao fechar o arquivo de resultados da campanha: {}", e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * Grava uma linha no arquivo de resultados.
+         *
+         * @param result Resultado do envio
+         */
+        private void writeResult(CampaignResult result) {
+            if (resultsWriter == null) {
+                return;
+            }
+
+            try {
+                resultsWriter.write(Long.toString(result.getPosition()));
+                resultsWriter.write(';');
+                resultsWriter.write(sanitize(result.getPhone()));
+                resultsWriter.write(';');
+                resultsWriter.write(result.isSuccess() ? "OK" : "ERRO");
+                resultsWriter.write(';');
+                resultsWriter.write(sanitize(result.getMessageId()));
+                resultsWriter.write(';');
+                resultsWriter.write(sanitize(result.getError()));
+                resultsWriter.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Descarrega os resultados pendentes e grava o ponto de controle de forma atômica.
+         */
+        private void checkpoint() {
+            try {
+                if (resultsWriter != null) {
+                    resultsWriter.flush();
+                }
+
+                if (checkpointFile != null) {
+                    Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+                    Files.writeString(temporary, Long.toString(watermark), StandardCharsets.UTF_8);
+                    Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                log.warn("Falha ao gravar o ponto de controle da campanha: {}", e.getMessage());
+            }
+        }
+
+        /**
+         * Lê a posição gravada no ponto de controle.
+         *
+         * @param checkpointFile Arquivo de ponto de controle
+         * @return Posição a partir da qual a campanha deve continuar
+         */
+        private static long readCheckpoint(Path checkpointFile) throws IOException {
+            if (checkpointFile == null || !Files.exists(checkpointFile)) {
+                return 0;
+            }
+
+            return Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).trim());
+        }
+
+        /**
+         * Abre o arquivo de resultados para acréscimo, gravando o cabeçalho se for novo.
+         *
+         * @param resultsFile Arquivo de resultados
+         * @return Escritor do arquivo, ou {@code null} se não configurado
+         */
+        private static BufferedWriter openResults(Path resultsFile) throws IOException {
+            if (resultsFile == null) {
+                return null;
+            }
+
+            boolean isNew = !Files.exists(resultsFile) || Files.size(resultsFile) == 0;
+            BufferedWriter writer = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            if (isNew) {
+                writer.write(RESULTS_HEADER);
+                writer.newLine();
+            }
+
+            return writer;
+        }
+
+        /**
+         * Remove do valor os caracteres que quebrariam o formato do arquivo de resultados.
+         *
+         * @param value Valor a ser gravado
+         * @return Valor seguro para gravação
+         */
+        private static String sanitize(String value) {
+            if (value == null) {
+                return "";
+            }
+
+            return value.replace(';', ',').replace('\n', ' ').replace('\r', ' ');
+        }
+    }
+}
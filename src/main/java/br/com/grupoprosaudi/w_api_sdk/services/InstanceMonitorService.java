@@ -0,0 +1,262 @@
+package br.com.grupoprosaudi.w_api_sdk.services;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.events.InstanceStatusEvent;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.InstanceResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serviço para monitoramento periódico de um conjunto de instâncias da W-API.
+ * <p>
+ * As instâncias registradas são consultadas em ciclos com intervalo aleatorizado
+ * (jitter) e concorrência limitada, evitando rajadas de requisições ao
+ * endpoint {@code /instance/fetch-instance}.
+ * </p>
+ * <p>
+ * O último estado conhecido de cada instância fica disponível em memória e pode ser
+ * lido sem bloqueio através de {@link #getSnapshot(String)}. Apenas as mudanças nos
+ * campos {@code connected}, {@code paymentStatus} e {@code expires} são publicadas
+ * em {@link #events()}.
+ * </p>
+ * <p>
+ * O monitoramento é iniciado automaticamente no primeiro registro de instância e
+ * encerrado junto com o contexto da aplicação.
+ * </p>
+ */
+@Slf4j
+@Service("WAPISDKInstanceMonitorService")
+public class InstanceMonitorService implements DisposableBean {
+
+    private final InstanceService instanceService;
+    private final WAPISDKProperties.Monitor properties;
+
+    private final Map<String, String> accessTokens = new ConcurrentHashMap<>();
+    private final Map<String, InstanceResponse> snapshots = new ConcurrentHashMap<>();
+    private final Sinks.Many<InstanceStatusEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicReference<Disposable> polling = new AtomicReference<>();
+
+    /**
+     * Construtor para injeção das dependências do monitor.
+     *
+     * @param instanceService Serviço utilizado para consultar as instâncias
+     * @param properties      Propriedades de configuração do SDK
+     */
+    public InstanceMonitorService(@Qualifier("WAPISDKInstanceService") InstanceService instanceService,
+                                  WAPISDKProperties properties) {
+        this.instanceService = instanceService;
+        this.properties = properties.getMonitor();
+    }
+
+    /**
+     * Registra uma instância para monitoramento.
+     * <p>
+     * Caso a instância já esteja registrada, apenas o token de acesso é atualizado.
+     * </p>
+     *
+     * @param accessToken Token de acesso para autenticação na API
+     * @param instanceId  ID da instância a ser monitorada
+     */
+    public void register(String accessToken,
+                         String instanceId) {
+        accessTokens.put(instanceId, accessToken);
+        start();
+    }
+
+    /**
+     * Remove uma instância do monitoramento e descarta seu último estado conhecido.
+     *
+     * @param instanceId ID da instância a ser removida
+     */
+    public void unregister(String instanceId) {
+        accessTokens.remove(instanceId);
+        snapshots.remove(instanceId);
+    }
+
+    /**
+     * Retorna o último estado conhecido de uma instância.
+     *
+     * @param instanceId ID da instância
+     * @return Último estado consultado, ou {@code null} se ainda não houver consulta concluída
+     */
+    public InstanceResponse getSnapshot(String instanceId) {
+        return snapshots.get(instanceId);
+    }
+
+    /**
+     * Retorna uma visão somente leitura dos últimos estados conhecidos de todas as instâncias.
+     *
+     * @return Mapa de ID da instância para o último estado consultado
+     */
+    public Map<String, InstanceResponse> getSnapshots() {
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Retorna o fluxo de eventos de mudança de estado das instâncias monitoradas.
+     * <p>
+     * O fluxo é compartilhado entre todos os assinantes e não reproduz eventos
+     * anteriores à assinatura.
+     * </p>
+     *
+     * @return Flux com os eventos de mudança
+     */
+    public Flux<InstanceStatusEvent> events() {
+        return sink.asFlux();
+    }
+
+    /**
+     * Inicia o ciclo de consultas, caso ainda não esteja em execução.
+     * <p>
+     * A vaga do ciclo é reservada antes da assinatura, de modo que chamadas
+     * simultâneas não disparem consultas em duplicidade. Se {@link #stop()} for
+     * chamado entre a reserva e a assinatura, o ciclo é descartado imediatamente.
+     * </p>
+     */
+    public void start() {
+        Disposable.Swap slot = Disposables.swap();
+
+        if (!polling.compareAndSet(null, slot)) {
+            return;
+        }
+
+        slot.update(Mono.defer(this::pollAll)
+                .then(Mono.defer(() -> Mono.delay(nextInterval())))
+                .repeat()
+                .subscribe(
+                        ignored -> { },
+                        error -> log.error("Monitoramento de instâncias W-API interrompido", error)
+                ));
+    }
+
+    /**
+     * Interrompe o ciclo de consultas. Os estados conhecidos são preservados.
+     */
+    public void stop() {
+        Disposable disposable = polling.getAndSet(null);
+
+        if (disposable != null) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+        sink.tryEmitComplete();
+    }
+
+    /**
+     * Consulta todas as instâncias registradas respeitando o limite de concorrência.
+     *
+     * @return Mono completado ao fim do ciclo
+     */
+    private Mono<Void> pollAll() {
+        return Flux.fromIterable(accessTokens.entrySet())
+                .flatMap(entry -> poll(entry.getValue(), entry.getKey()), Math.max(1, properties.getConcurrency()))
+                .doOnNext(sink::tryEmitNext)
+                .then();
+    }
+
+    /**
+     * Consulta uma instância e compara o resultado com o último estado conhecido.
+     *
+     * @param accessToken Token de acesso para autenticação na API
+     * @param instanceId  ID da instância
+     * @return Mono com o evento de mudança, ou vazio se nada relevante mudou
+     */
+    private Mono<InstanceStatusEvent> poll(String accessToken,
+                                           String instanceId) {
+        return instanceService.findByIdAsync(accessToken, instanceId)
+                .timeout(properties.getTimeout())
+                .flatMap(current -> {
+                    if (!accessTokens.containsKey(instanceId)) {
+                        return Mono.empty();
+                    }
+
+                    InstanceResponse previous = snapshots.put(instanceId, current);
+                    return Mono.justOrEmpty(diff(instanceId, previous, current));
+                })
+                .onErrorResume(error -> {
+                    log.warn("Falha ao consultar a instância {} na W-API: {}", instanceId, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Compara dois estados de uma instância.
+     *
+     * @param instanceId ID da instância
+     * @param previous   Estado anterior
+     * @param current    Estado atual
+     * @return Evento de mudança, ou {@code null} se não houver estado anterior ou nada relevante mudou
+     */
+    private InstanceStatusEvent diff(String instanceId,
+                                     InstanceResponse previous,
+                                     InstanceResponse current) {
+        if (previous == null) {
+            return null;
+        }
+
+        Set<String> changedFields = new LinkedHashSet<>();
+
+        if (!Objects.equals(previous.getConnected(), current.getConnected())) {
+            changedFields.add(InstanceStatusEvent.CONNECTED);
+        }
+
+        if (!Objects.equals(previous.getPaymentStatus(), current.getPaymentStatus())) {
+            changedFields.add(InstanceStatusEvent.PAYMENT_STATUS);
+        }
+
+        if (!Objects.equals(previous.getExpires(), current.getExpires())) {
+            changedFields.add(InstanceStatusEvent.EXPIRES);
+        }
+
+        if (changedFields.isEmpty()) {
+            return null;
+        }
+
+        return InstanceStatusEvent.builder()
+                .instanceId(instanceId)
+                .previous(previous)
+                .current(current)
+                .changedFields(Collections.unmodifiableSet(changedFields))
+                .detectedAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Calcula o intervalo até o próximo ciclo, aplicando o jitter configurado.
+     *
+     * @return Intervalo aleatorizado
+     */
+    private Duration nextInterval() {
+        long base = properties.getInterval().toMillis();
+        double jitter = Math.min(1.0, Math.max(0.0, properties.getJitter()));
+        long spread = (long) (base * jitter);
+
+        if (spread <= 0) {
+            return Duration.ofMillis(base);
+        }
+
+        return Duration.ofMillis(base - spread + ThreadLocalRandom.current().nextLong(2 * spread + 1));
+    }
+}
@@ -2,11 +2,13 @@
 package br.com.grupoprosaudi.w_api_sdk.services;
 
 import br.com.grupoprosaudi.w_api_sdk.dtos.responses.InstanceResponse;
-import org.springframework.beans.factory.annotation.Qualifier;
+import br.com.grupoprosaudi.w_api_sdk.transport.WAPITransport;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+
 /**
  * Serviço para gerenciamento de instâncias através da API W-API.
  * <p>
@@ -14,22 +16,24 @@ import reactor.core.publisher.Mono;
  * de forma síncrona ou assíncrona.
  * </p>
  * <p>
- * Este serviço utiliza o {@link WebClient} configurado para fazer requisições
+ * Este serviço utiliza o {@link WAPITransport} configurado para fazer requisições
  * aos endpoints da API relacionados a instâncias.
  * </p>
  */
 @Service("WAPISDKInstanceService")
 public class InstanceService {
 
-    private final WebClient webClient;
+    private static final String FETCH_INSTANCE_PATH = "/instance/fetch-instance";
+
+    private final WAPITransport transport;
 
     /**
-     * Construtor para injeção do WebClient configurado.
+     * Construtor para injeção do transporte configurado.
      *
-     * @param webClient Cliente HTTP configurado para comunicação com a W-API
+     * @param transport Transporte configurado para comunicação com a W-API
      */
-    public InstanceService(@Qualifier("WAPISDKWebClient") WebClient webClient) {
-        this.webClient = webClient;
+    public InstanceService(WAPITransport transport) {
+        this.transport = transport;
     }
 
     /**
@@ -58,15 +62,11 @@ public class InstanceService {
      */
     public Mono<InstanceResponse> findByIdAsync(String accessToken,
                                                 String instanceId) {
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/instance/fetch-instance")
-                        .queryParam("instanceId", instanceId)
-                        .build())
-                .headers(httpHeaders ->
-                        httpHeaders.add("Authorization", "Bearer " + accessToken)
-                )
-                .retrieve()
-                .bodyToMono(InstanceResponse.class);
+        return transport.get(
+                FETCH_INSTANCE_PATH,
+                Collections.singletonMap(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken),
+                Collections.singletonMap("instanceId", instanceId),
+                InstanceResponse.class
+        );
     }
 }
\ No newline at end of file
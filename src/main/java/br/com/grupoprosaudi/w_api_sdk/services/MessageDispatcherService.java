@@ -0,0 +1,127 @@
+package br.com.grupoprosaudi.w_api_sdk.services;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+
+/**
+ * Serviço que limita a quantidade total de envios simultâneos produzidos por várias threads.
+ * <p>
+ * Cada envio é colocado em uma fila sem bloqueios e despachado pelo {@link MessageService}
+ * assim que houver vaga. Todos os envios passam por um único fluxo de longa duração, de
+ * modo que o limite {@code w-api-sdk.dispatcher.concurrency} vale para o total de envios em
+ * andamento. Enquanto o limite estiver atingido, os novos envios aguardam na fila.
+ * </p>
+ * <p>
+ * O despachante não agrupa envios em lotes: a W-API não oferece um endpoint de envio em
+ * lote e cada mensagem continua sendo uma requisição própria, de modo que agrupá-las não
+ * reduziria o trabalho feito. O ganho está em não ultrapassar a capacidade do pool de
+ * conexões, evitando que os envios se acumulem na fila de aquisição do pool. Cada chamador
+ * recebe seu próprio {@link Mono} com a resposta da sua mensagem.
+ * </p>
+ */
+@Slf4j
+@Service("WAPISDKMessageDispatcherService")
+public class MessageDispatcherService implements DisposableBean {
+
+    private final MessageService messageService;
+    private final Sinks.Many<PendingMessage> queue = Sinks.many().unicast()
+            .onBackpressureBuffer(Queues.<PendingMessage>unboundedMultiproducer().get());
+    private final Disposable dispatching;
+
+    /**
+     * Construtor para injeção das dependências do despachante.
+     *
+     * @param messageService Serviço utilizado no envio das mensagens
+     * @param properties     Propriedades de configuração do SDK
+     */
+    public MessageDispatcherService(@Qualifier("WAPISDKMessageService") MessageService messageService,
+                                    WAPISDKProperties properties) {
+        this.messageService = messageService;
+        this.dispatching = queue.asFlux()
+                .flatMap(this::send, Math.max(1, properties.getDispatcher().getConcurrency()))
+                .subscribe(
+                        ignored -> { },
+                        error -> log.error("Despachante de mensagens W-API interrompido", error)
+                );
+    }
+
+    /**
+     * Agenda o envio de uma mensagem de qualquer tipo.
+     * <p>
+     * A mensagem entra na fila no momento da assinatura. Cancelar a assinatura não
+     * cancela um envio já despachado.
+     * </p>
+     *
+     * @param accessToken    Token de acesso para autenticação na API
+     * @param instanceId     ID da instância para envio da mensagem
+     * @param messageRequest Objeto contendo os detalhes da mensagem a ser enviada
+     * @return Mono com a resposta da API contendo os dados da mensagem enviada
+     */
+    public Mono<MessageResponse> submit(String accessToken,
+                                        String instanceId,
+                                        MessageRequest messageRequest) {
+        if (accessToken == null || instanceId == null || messageRequest == null) {
+            return Mono.error(new IllegalArgumentException("Token de acesso, instância e mensagem são obrigatórios"));
+        }
+
+        return Mono.defer(() -> {
+            PendingMessage pending = new PendingMessage(accessToken, instanceId, messageRequest);
+            queue.emitNext(pending, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+            return pending.sink.asMono();
+        });
+    }
+
+    @Override
+    public void destroy() {
+        dispatching.dispose();
+    }
+
+    /**
+     * Envia uma mensagem da fila e entrega o resultado ao seu chamador.
+     *
+     * @param pending Mensagem pendente
+     * @return Mono completado após a entrega do resultado
+     */
+    private Mono<Void> send(PendingMessage pending) {
+        return Mono.defer(() -> messageService.sendMessageAsync(pending.accessToken, pending.instanceId, pending.messageRequest))
+                .doOnNext(pending.sink::tryEmitValue)
+                .doOnError(pending.sink::tryEmitError)
+                .doOnSuccess(response -> {
+                    if (response == null) {
+                        pending.sink.tryEmitEmpty();
+                    }
+                })
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Mensagem aguardando despacho e o canal de entrega de sua resposta.
+     */
+    private static final class PendingMessage {
+
+        private final String accessToken;
+        private final String instanceId;
+        private final MessageRequest messageRequest;
+        private final Sinks.One<MessageResponse> sink = Sinks.one();
+
+        PendingMessage(String accessToken,
+                       String instanceId,
+                       MessageRequest messageRequest) {
+            this.accessToken = accessToken;
+            this.instanceId = instanceId;
+            this.messageRequest = messageRequest;
+        }
+    }
+}
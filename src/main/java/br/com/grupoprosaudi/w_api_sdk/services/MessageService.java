@@ -8,11 +8,12 @@ import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
 import br.com.grupoprosaudi.w_api_sdk.dtos.requests.TextMessageRequest;
 import br.com.grupoprosaudi.w_api_sdk.dtos.requests.VideoMessageRequest;
 import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.idempotency.IdempotencyGuard;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import br.com.grupoprosaudi.w_api_sdk.transport.WAPITransport;
 import jakarta.validation.Valid;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
@@ -25,6 +26,13 @@ import java.util.Map;
  * de forma síncrona ou assíncrona, com opções para customização de headers
  * e parâmetros de consulta.
  * </p>
+ * <p>
+ * As requisições são realizadas através do {@link WAPITransport} configurado.
+ * </p>
+ * <p>
+ * Com {@code w-api-sdk.idempotency.enabled=true}, envios repetidos da mesma mensagem
+ * são deduplicados pelo {@link IdempotencyGuard}.
+ * </p>
  */
 @Service("WAPISDKMessageService")
 public class MessageService {
@@ -35,10 +43,15 @@ public class MessageService {
     private static final String TEXT_MESSAGE_PATH = "/message/send-text";
     private static final String VIDEO_MESSAGE_PATH = "/message/send-video";
 
-    private final WebClient webClient;
+    private final WAPITransport transport;
+    private final IdempotencyGuard idempotencyGuard;
 
-    public MessageService(@Qualifier("WAPISDKWebClient") WebClient webClient) {
-        this.webClient = webClient;
+    public MessageService(WAPITransport transport,
+                          WAPISDKProperties properties) {
+        this.transport = transport;
+        this.idempotencyGuard = properties.getIdempotency().isEnabled()
+                ? new IdempotencyGuard(properties.getIdempotency())
+                : null;
     }
 
     // --- Métodos para envio de mensagens de audio ---
@@ -381,11 +394,33 @@ public class MessageService {
         return sendMessageAsync(VIDEO_MESSAGE_PATH, headers, queryParams, videoMessageRequest);
     }
 
+    // --- Métodos para envio de mensagens de qualquer tipo ---
+
+    /**
+     * Envia uma mensagem de qualquer tipo de forma assíncrona, escolhendo o endpoint
+     * conforme o tipo do objeto da requisição.
+     *
+     * @param accessToken    Token de acesso para autenticação na API
+     * @param instanceId     ID da instância para envio da mensagem
+     * @param messageRequest Objeto contendo os detalhes da mensagem a ser enviada
+     * @return Mono com a resposta da API contendo os dados da mensagem enviada
+     */
+    public Mono<MessageResponse> sendMessageAsync(String accessToken,
+                                                  String instanceId,
+                                                  @Valid MessageRequest messageRequest) {
+        return Mono.defer(() -> sendMessageAsync(
+                pathOf(messageRequest),
+                createAuthorizationHeader(accessToken),
+                createInstanceIdQueryParam(instanceId),
+                messageRequest
+        ));
+    }
+
     // --- Métodos utilitários privados ---
 
     /**
      * Método base para envio de mensagens.
-     * Centraliza a lógica de requisição HTTP usando o WebClient.
+     * Centraliza a lógica de requisição usando o transporte configurado.
      *
      * @param path           Caminho da API para o tipo de mensagem
      * @param headers        Cabeçalhos da requisição
@@ -397,24 +432,46 @@ public class MessageService {
                                                    Map<String, String> headers,
                                                    Map<String, String> queryParams,
                                                    MessageRequest messageRequest) {
-        return webClient.post()
-                .uri(builder -> {
-                    builder.path(path);
-
-                    if (queryParams != null) {
-                        queryParams.forEach(builder::queryParam);
-                    }
-
-                    return builder.build();
-                })
-                .headers(httpHeaders -> {
-                    if (headers != null) {
-                        headers.forEach(httpHeaders::add);
-                    }
-                })
-                .bodyValue(messageRequest)
-                .retrieve()
-                .bodyToMono(MessageResponse.class);
+        if (idempotencyGuard == null) {
+            return transport.post(path, headers, queryParams, messageRequest, MessageResponse.class);
+        }
+
+        return idempotencyGuard.execute(
+                path,
+                queryParams != null ? queryParams.get("instanceId") : null,
+                messageRequest,
+                () -> transport.post(path, headers, queryParams, messageRequest, MessageResponse.class)
+        );
+    }
+
+    /**
+     * Obtém o caminho da API correspondente ao tipo da mensagem.
+     *
+     * @param messageRequest Objeto da requisição
+     * @return Caminho da API para o tipo de mensagem
+     */
+    private String pathOf(MessageRequest messageRequest) {
+        if (messageRequest instanceof TextMessageRequest) {
+            return TEXT_MESSAGE_PATH;
+        }
+
+        if (messageRequest instanceof ImageMessageRequest) {
+            return IMAGE_MESSAGE_PATH;
+        }
+
+        if (messageRequest instanceof DocumentMessageRequest) {
+            return DOCUMENT_MESSAGE_PATH;
+        }
+
+        if (messageRequest instanceof AudioMessageRequest) {
+            return AUDIO_MESSAGE_PATH;
+        }
+
+        if (messageRequest instanceof VideoMessageRequest) {
+            return VIDEO_MESSAGE_PATH;
+        }
+
+        throw new IllegalArgumentException("Tipo de mensagem não suportado: " + messageRequest.getClass().getName());
     }
 
     /**
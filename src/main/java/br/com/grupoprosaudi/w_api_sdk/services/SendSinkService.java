@@ -0,0 +1,93 @@
+package br.com.grupoprosaudi.w_api_sdk.services;
+
+import br.com.grupoprosaudi.w_api_sdk.configurations.WebClientConfiguration;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import br.com.grupoprosaudi.w_api_sdk.sink.OverflowStrategy;
+import br.com.grupoprosaudi.w_api_sdk.sink.SendPermits;
+import br.com.grupoprosaudi.w_api_sdk.sink.SendSink;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço para criação de canais de envio com buffer limitado ({@link SendSink}).
+ * <p>
+ * Todos os canais criados pelo serviço dividem um único {@link SendPermits}, derivado
+ * do pool de conexões do SDK: a quantidade máxima de conexões, ou, com HTTP/2 habilitado,
+ * conexões multiplicadas pelos streams simultâneos por conexão (a fila de espera do
+ * pool comporta esse total caso o servidor não negocie HTTP/2). Assim, a soma dos envios
+ * de todos os canais não ultrapassa o que o pool consegue atender, e as vagas livres são
+ * divididas entre os canais com pedidos pendentes. Com {@code w-api-sdk.send-sink.concurrency}
+ * informado, cada canal também fica limitado a esse valor.
+ * </p>
+ * <p>
+ * Envios feitos diretamente pelo {@link MessageService} ou pelo {@link MessageDispatcherService}
+ * não ocupam vagas do limite compartilhado e aguardam na fila do próprio pool.
+ * </p>
+ */
+@Service("WAPISDKSendSinkService")
+public class SendSinkService {
+
+    private final MessageService messageService;
+    private final WAPISDKProperties properties;
+    private final SendPermits permits;
+
+    /**
+     * Construtor para injeção das dependências.
+     *
+     * @param messageService Serviço utilizado no envio das mensagens
+     * @param properties     Propriedades de configuração do SDK
+     */
+    public SendSinkService(@Qualifier("WAPISDKMessageService") MessageService messageService,
+                           WAPISDKProperties properties) {
+        this.messageService = messageService;
+        this.properties = properties;
+        this.permits = new SendPermits(poolCapacity());
+    }
+
+    /**
+     * Cria um canal de envio com as configurações padrão de {@code w-api-sdk.send-sink}.
+     *
+     * @return Canal de envio
+     */
+    public SendSink create() {
+        return create(properties.getSendSink().getCapacity(), properties.getSendSink().getOverflowStrategy());
+    }
+
+    /**
+     * Cria um canal de envio com capacidade e estratégia de transbordo informadas.
+     *
+     * @param capacity         Capacidade do buffer de pedidos
+     * @param overflowStrategy Comportamento com o buffer cheio
+     * @return Canal de envio
+     */
+    public SendSink create(int capacity,
+                           OverflowStrategy overflowStrategy) {
+        Integer concurrency = properties.getSendSink().getConcurrency();
+        return new SendSink(messageService, capacity, concurrency != null ? concurrency : permits.limit(), overflowStrategy, permits);
+    }
+
+    /**
+     * Retorna o limite de envios simultâneos compartilhado pelos canais.
+     *
+     * @return Limite compartilhado
+     */
+    public SendPermits permits() {
+        return permits;
+    }
+
+    /**
+     * Calcula a quantidade de envios simultâneos que o pool de conexões atende sem enfileirar.
+     *
+     * @return Capacidade do pool de conexões
+     */
+    private int poolCapacity() {
+        int maxConnections = WebClientConfiguration.maxConnections(properties);
+
+        if (properties.getHttp2().isEnabled()) {
+            long streams = maxConnections * properties.getHttp2().getMaxConcurrentStreams();
+            return (int) Math.min(Integer.MAX_VALUE, streams);
+        }
+
+        return maxConnections;
+    }
+}
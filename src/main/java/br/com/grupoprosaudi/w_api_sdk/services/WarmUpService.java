@@ -0,0 +1,229 @@
+package br.com.grupoprosaudi.w_api_sdk.services;
+
+import br.com.grupoprosaudi.w_api_sdk.configurations.WebClientConfiguration;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.LoopResources;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Serviço de aquecimento do SDK W-API na inicialização da aplicação.
+ * <p>
+ * Habilitado pela propriedade {@code w-api-sdk.warm-up.enabled=true}, antecipa os
+ * custos que de outra forma seriam pagos pelas primeiras mensagens enviadas:
+ * </p>
+ * <ul>
+ *   <li>Inicialização dos event loops e do resolvedor DNS do Reactor Netty</li>
+ *   <li>Resolução DNS de {@code api.w-api.app}, mantida em cache</li>
+ *   <li>Abertura de conexões TCP/TLS mantidas no pool (keep-alive)</li>
+ *   <li>Criação dos serializadores Jackson de todos os DTOs do SDK, localizados por
+ *       varredura do pacote {@code dtos}</li>
+ * </ul>
+ * <p>
+ * Com {@code w-api-sdk.warm-up.block-startup=true} a inicialização aguarda o fim do
+ * aquecimento, atrasando a sinalização de prontidão da aplicação. Caso contrário,
+ * o aquecimento ocorre em segundo plano e pode ser aguardado através de
+ * {@link #awaitWarmUp()}.
+ * </p>
+ * <p>
+ * Com o emulador habilitado ({@code w-api-sdk.emulator.enabled=true}), apenas o
+ * Jackson é aquecido, pois nenhuma requisição chega à rede.
+ * </p>
+ * <p>
+ * Falhas no aquecimento são registradas no log e nunca impedem a inicialização.
+ * </p>
+ */
+@Slf4j
+@Service("WAPISDKWarmUpService")
+@ConditionalOnProperty(prefix = "w-api-sdk.warm-up", name = "enabled", havingValue = "true")
+public class WarmUpService implements ApplicationRunner {
+
+    private static final String DTO_PACKAGE = "br.com.grupoprosaudi.w_api_sdk.dtos";
+
+    private final HttpClient httpClient;
+    private final AddressResolverGroup<?> resolverGroup;
+    private final ObjectMapper objectMapper;
+    private final WAPISDKProperties.WarmUp properties;
+    private final boolean emulated;
+    private final Mono<Void> warmUp;
+
+    private volatile boolean warmedUp;
+
+    /**
+     * Construtor para injeção das dependências do aquecimento.
+     *
+     * @param httpClient    Cliente HTTP utilizado pelo WebClient do SDK
+     * @param resolverGroup Resolvedor DNS utilizado pelo cliente HTTP do SDK
+     * @param objectMapper  Mapeador JSON utilizado pelo WebClient do SDK
+     * @param properties    Propriedades de configuração do SDK
+     */
+    public WarmUpService(@Qualifier("WAPISDKHttpClient") HttpClient httpClient,
+                         @Qualifier("WAPISDKAddressResolverGroup") AddressResolverGroup<?> resolverGroup,
+                         @Qualifier("WAPISDKObjectMapper") ObjectMapper objectMapper,
+                         WAPISDKProperties properties) {
+        this.httpClient = httpClient;
+        this.resolverGroup = resolverGroup;
+        this.objectMapper = objectMapper;
+        this.properties = properties.getWarmUp();
+        this.emulated = properties.getEmulator().isEnabled();
+        this.warmUp = Mono.defer(this::execute).cache();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isBlockStartup()) {
+            warmUp.block();
+        } else {
+            warmUp.subscribe();
+        }
+    }
+
+    /**
+     * Retorna um {@link Mono} completado quando o aquecimento terminar.
+     * <p>
+     * Pode ser utilizado pela aplicação para condicionar sua prontidão
+     * (por exemplo, em um {@code HealthIndicator} reativo).
+     * </p>
+     *
+     * @return Mono completado ao fim do aquecimento
+     */
+    public Mono<Void> awaitWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Indica se o aquecimento já foi concluído.
+     *
+     * @return {@code true} se o aquecimento terminou, com ou sem falhas
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * Executa todas as etapas do aquecimento.
+     *
+     * @return Mono completado ao fim do aquecimento
+     */
+    private Mono<Void> execute() {
+        long start = System.nanoTime();
+        Mono<Void> network = emulated
+                ? Mono.empty()
+                : httpClient.warmup()
+                        .then(resolveDns())
+                        .then(openConnections());
+
+        return Mono.fromRunnable(this::primeJackson)
+                .then(network)
+                .timeout(properties.getTimeout())
+                .doOnSuccess(ignored -> log.info("Aquecimento do SDK W-API concluído em {} ms",
+                        (System.nanoTime() - start) / 1_000_000))
+                .onErrorResume(error -> {
+                    log.warn("Falha no aquecimento do SDK W-API: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> warmedUp = true);
+    }
+
+    /**
+     * Resolve o endereço da W-API, preenchendo o cache DNS do cliente HTTP.
+     * <p>
+     * Executado independentemente de {@code w-api-sdk.warm-up.connections}, inclusive
+     * quando nenhuma conexão é aberta antecipadamente.
+     * </p>
+     *
+     * @return Mono completado ao fim da resolução
+     */
+    private Mono<Void> resolveDns() {
+        URI uri = URI.create(WebClientConfiguration.BASE_URL);
+        int port = uri.getPort() != -1 ? uri.getPort() : 443;
+
+        return Mono.create(sink -> {
+            Future<?> resolution = resolverGroup
+                    .getResolver(HttpResources.get().onClient(LoopResources.DEFAULT_NATIVE).next())
+                    .resolve(InetSocketAddress.createUnresolved(uri.getHost(), port));
+
+            resolution.addListener(future -> {
+                if (!future.isSuccess()) {
+                    log.debug("Falha ao resolver o endereço da W-API: {}", future.cause().getMessage());
+                }
+
+                sink.success();
+            });
+        });
+    }
+
+    /**
+     * Abre antecipadamente as conexões do pool com a W-API.
+     * <p>
+     * As requisições são disparadas simultaneamente para que cada uma ocupe uma
+     * conexão nova, devolvida ao pool ao fim da resposta.
+     * </p>
+     *
+     * @return Mono completado quando todas as conexões forem abertas
+     */
+    private Mono<Void> openConnections() {
+        int connections = Math.max(0, properties.getConnections());
+
+        return Flux.range(0, connections)
+                .flatMap(ignored -> httpClient.baseUrl(WebClientConfiguration.BASE_URL)
+                        .head()
+                        .uri("/")
+                        .response()
+                        .onErrorResume(error -> {
+                            log.debug("Falha ao abrir conexão de aquecimento com a W-API: {}", error.getMessage());
+                            return Mono.empty();
+                        }), Math.max(1, connections))
+                .then();
+    }
+
+    /**
+     * Cria e armazena em cache os serializadores e desserializadores Jackson dos DTOs.
+     */
+    private void primeJackson() {
+        for (Class<?> dtoClass : dtoClasses()) {
+            try {
+                objectMapper.writeValueAsBytes(dtoClass.getDeclaredConstructor().newInstance());
+                objectMapper.readValue("{}", dtoClass);
+            } catch (Exception e) {
+                log.debug("Falha ao aquecer o Jackson para {}: {}", dtoClass.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Localiza as classes concretas do pacote de DTOs do SDK, incluindo seus subpacotes.
+     * <p>
+     * Classes abstratas e classes aninhadas (como os builders do Lombok) são ignoradas.
+     * </p>
+     *
+     * @return Classes dos DTOs
+     */
+    private List<Class<?>> dtoClasses() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> !reader.getClassMetadata().hasEnclosingClass());
+
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        return scanner.findCandidateComponents(DTO_PACKAGE).stream()
+                .<Class<?>>map(candidate -> ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader))
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+/**
+ * Comportamento de um {@link SendSink} quando seu buffer está cheio.
+ */
+public enum OverflowStrategy {
+
+    /**
+     * Bloqueia a thread do produtor até haver espaço no buffer.
+     * Não deve ser utilizado a partir de threads do event loop.
+     */
+    BLOCK,
+
+    /**
+     * Descarta o pedido mais antigo do buffer, que falha, para aceitar o novo.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Rejeita o novo pedido imediatamente.
+     */
+    FAIL
+}
@@ -0,0 +1,27 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Pedido de envio de mensagem entregue a um {@link SendSink}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SendCommand implements Serializable {
+
+    private String accessToken;
+
+    private String instanceId;
+
+    private MessageRequest messageRequest;
+}
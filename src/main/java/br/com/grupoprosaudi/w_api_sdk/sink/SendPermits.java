@@ -0,0 +1,116 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de envios simultâneos compartilhado entre canais de envio ({@link SendSink}).
+ * <p>
+ * Cada envio de um canal ocupa uma vaga até a sua conclusão. Um canal que encontra o
+ * limite atingido registra-se como aguardando e volta a despachar quando qualquer
+ * envio, de qualquer canal, libera sua vaga. Assim, a soma dos envios de todos os
+ * canais não ultrapassa o limite, e as vagas livres são divididas entre os canais
+ * com pedidos pendentes.
+ * </p>
+ */
+public class SendPermits {
+
+    private final int limit;
+    private final AtomicInteger used = new AtomicInteger();
+    private final Queue<SendSink> waiting = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Cria o limite compartilhado.
+     *
+     * @param limit Quantidade máxima de envios simultâneos
+     */
+    public SendPermits(int limit) {
+        this.limit = Math.max(1, limit);
+    }
+
+    /**
+     * Retorna a quantidade máxima de envios simultâneos.
+     *
+     * @return Limite de envios simultâneos
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Retorna a quantidade de vagas ocupadas.
+     *
+     * @return Envios em andamento, somando todos os canais
+     */
+    public int used() {
+        return used.get();
+    }
+
+    /**
+     * Retorna a quantidade de vagas livres.
+     *
+     * @return Vagas livres
+     */
+    public int available() {
+        return Math.max(0, limit - used.get());
+    }
+
+    /**
+     * Ocupa uma vaga, se houver.
+     *
+     * @return {@code true} se a vaga foi ocupada
+     */
+    boolean tryAcquire() {
+        int current;
+
+        do {
+            current = used.get();
+
+            if (current >= limit) {
+                return false;
+            }
+        } while (!used.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Libera uma vaga e avisa os canais que aguardavam.
+     * <p>
+     * Apenas os canais registrados até este momento são avisados; um canal que volte a
+     * encontrar o limite atingido registra-se novamente e aguarda a próxima liberação.
+     * </p>
+     */
+    void release() {
+        used.decrementAndGet();
+
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        List<SendSink> sinks = new ArrayList<>();
+        SendSink sink;
+
+        while ((sink = waiting.poll()) != null) {
+            sinks.add(sink);
+        }
+
+        sinks.forEach(SendSink::resume);
+    }
+
+    /**
+     * Registra um canal que encontrou o limite atingido.
+     * <p>
+     * Após o registro, o canal deve tentar ocupar a vaga novamente, pois uma vaga
+     * pode ter sido liberada antes do registro.
+     * </p>
+     *
+     * @param sink Canal aguardando vaga
+     */
+    void await(SendSink sink) {
+        waiting.offer(sink);
+    }
+}
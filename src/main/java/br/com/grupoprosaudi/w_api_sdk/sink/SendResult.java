@@ -0,0 +1,27 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resultado de um pedido de envio processado por um {@link SendSink}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SendResult {
+
+    private SendCommand command;
+
+    private boolean success;
+
+    private MessageResponse response;
+
+    private Throwable error;
+}
@@ -0,0 +1,341 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.services.MessageService;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Canal de envio de longa duração, com buffer limitado, para aplicações produtoras.
+ * <p>
+ * Os pedidos aguardam em um buffer de capacidade fixa e são enviados pelo
+ * {@link MessageService} respeitando o limite de envios simultâneos do canal e um
+ * {@link SendPermits} compartilhado com os demais canais, derivado do pool de
+ * conexões do SDK. Assim, a aplicação pode consultar a capacidade disponível
+ * ({@link #remainingCapacity()}, {@link #isSaturated()}) em vez de acumular
+ * {@link Mono}s sem limite em memória.
+ * </p>
+ * <p>
+ * Há duas formas de uso:
+ * </p>
+ * <ul>
+ *   <li>{@link #submit(String, String, MessageRequest)}: cada pedido é entregue
+ *       diretamente; com o buffer cheio, aplica-se a {@link OverflowStrategy} configurada</li>
+ *   <li>{@link #attach(Publisher)}: o canal assina um {@link Publisher} de pedidos e
+ *       solicita, via {@code request(n)}, apenas a quantidade reservada para ele, pedindo
+ *       mais à medida que os resultados são consumidos</li>
+ * </ul>
+ * <p>
+ * Os pedidos das duas formas compartilham o mesmo limite de envios simultâneos, sendo
+ * despachados de forma alternada. Os pedidos de {@link #attach(Publisher)} não ocupam
+ * o buffer de {@link #submit(String, String, MessageRequest)}, e vice-versa.
+ * </p>
+ */
+public class SendSink {
+
+    private final MessageService messageService;
+    private final BlockingQueue<Entry> buffer;
+    private final Queue<Entry> attached = new ConcurrentLinkedQueue<>();
+    private final OverflowStrategy overflowStrategy;
+    private final int capacity;
+    private final int concurrency;
+    private final SendPermits permits;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean waiting = new AtomicBoolean();
+    private boolean attachedFirst;
+
+    /**
+     * Cria um canal de envio com limite próprio, não compartilhado com outros canais.
+     *
+     * @param messageService   Serviço utilizado no envio das mensagens
+     * @param capacity         Capacidade do buffer de pedidos e reserva de cada {@link Publisher} assinado
+     * @param concurrency      Quantidade máxima de envios simultâneos
+     * @param overflowStrategy Comportamento com o buffer cheio
+     */
+    public SendSink(MessageService messageService,
+                    int capacity,
+                    int concurrency,
+                    OverflowStrategy overflowStrategy) {
+        this(messageService, capacity, concurrency, overflowStrategy, new SendPermits(concurrency));
+    }
+
+    /**
+     * Cria um canal de envio que divide um limite de envios simultâneos com outros canais.
+     *
+     * @param messageService   Serviço utilizado no envio das mensagens
+     * @param capacity         Capacidade do buffer de pedidos e reserva de cada {@link Publisher} assinado
+     * @param concurrency      Quantidade máxima de envios simultâneos deste canal
+     * @param overflowStrategy Comportamento com o buffer cheio
+     * @param permits          Limite de envios simultâneos compartilhado
+     */
+    public SendSink(MessageService messageService,
+                    int capacity,
+                    int concurrency,
+                    OverflowStrategy overflowStrategy,
+                    SendPermits permits) {
+        this.messageService = messageService;
+        this.capacity = Math.max(1, capacity);
+        this.buffer = new ArrayBlockingQueue<>(this.capacity);
+        this.concurrency = Math.max(1, concurrency);
+        this.overflowStrategy = overflowStrategy;
+        this.permits = permits;
+    }
+
+    /**
+     * Entrega um pedido de envio ao canal.
+     * <p>
+     * O pedido é aceito imediatamente, independentemente de assinatura do {@link Mono}
+     * retornado. Com o buffer cheio, a estratégia {@link OverflowStrategy#BLOCK} bloqueia
+     * a thread atual até haver espaço, e {@link OverflowStrategy#FAIL} retorna um
+     * {@link Mono} com erro.
+     * </p>
+     *
+     * @param accessToken    Token de acesso para autenticação na API
+     * @param instanceId     ID da instância para envio da mensagem
+     * @param messageRequest Objeto contendo os detalhes da mensagem a ser enviada
+     * @return Mono com a resposta da API contendo os dados da mensagem enviada
+     */
+    public Mono<MessageResponse> submit(String accessToken,
+                                        String instanceId,
+                                        MessageRequest messageRequest) {
+        Entry entry = new Entry(new SendCommand(accessToken, instanceId, messageRequest));
+
+        if (!enqueue(entry)) {
+            return Mono.error(new IllegalStateException("Buffer de envio da W-API cheio"));
+        }
+
+        return entry.sink.asMono();
+    }
+
+    /**
+     * Assina um {@link Publisher} de pedidos, solicitando apenas a quantidade reservada.
+     * <p>
+     * Cada assinatura reserva a capacidade do canal para si: no máximo essa quantidade de
+     * pedidos fica aguardando envio, em envio ou com o resultado ainda não consumido. Um
+     * novo pedido só é solicitado ao {@link Publisher} quando um resultado é entregue ao
+     * consumidor do {@link Flux} retornado, de modo que um consumidor lento também limita
+     * a produção. Os pedidos reservados nunca são rejeitados nem bloqueiam a thread do
+     * {@link Publisher}, independentemente do uso de {@link #submit(String, String, MessageRequest)}.
+     * </p>
+     * <p>
+     * O {@link Flux} retornado emite o resultado de cada pedido, na ordem de conclusão, e
+     * termina após o término do {@link Publisher} e a conclusão de todos os envios.
+     * Cancelá-lo cancela a assinatura do {@link Publisher}; pedidos já aguardando envio
+     * ainda são enviados.
+     * </p>
+     *
+     * @param commands Pedidos de envio
+     * @return Flux com os resultados dos envios
+     */
+    public Flux<SendResult> attach(Publisher<SendCommand> commands) {
+        return Flux.from(commands)
+                .flatMap(command -> dispatchAttached(command)
+                        .map(response -> SendResult.builder().command(command).success(true).response(response).build())
+                        .defaultIfEmpty(SendResult.builder().command(command).success(true).build())
+                        .onErrorResume(error -> Mono.just(SendResult.builder().command(command).success(false).error(error).build())),
+                        capacity, 1);
+    }
+
+    /**
+     * Retorna a quantidade de pedidos que ainda cabem no buffer.
+     *
+     * @return Capacidade livre do buffer
+     */
+    public int remainingCapacity() {
+        return buffer.remainingCapacity();
+    }
+
+    /**
+     * Retorna a quantidade de pedidos aguardando envio, no buffer e nas reservas
+     * dos {@link Publisher}s assinados.
+     *
+     * @return Pedidos aguardando envio
+     */
+    public int buffered() {
+        return buffer.size() + attached.size();
+    }
+
+    /**
+     * Retorna a quantidade de envios em andamento.
+     *
+     * @return Envios em andamento
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Indica se o canal está saturado: buffer cheio e limite de envios, do canal ou
+     * compartilhado, atingido.
+     *
+     * @return {@code true} se novos pedidos não puderem ser aceitos sem espera
+     */
+    public boolean isSaturated() {
+        return buffer.remainingCapacity() == 0 && (inFlight.get() >= concurrency || permits.available() == 0);
+    }
+
+    /**
+     * Coloca o pedido no buffer, aplicando a estratégia de transbordo.
+     *
+     * @param entry Pedido
+     * @return {@code false} se o pedido foi rejeitado
+     */
+    private boolean enqueue(Entry entry) {
+        if (!buffer.offer(entry)) {
+            switch (overflowStrategy) {
+                case BLOCK -> {
+                    try {
+                        buffer.put(entry);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!buffer.offer(entry)) {
+                        Entry dropped = buffer.poll();
+
+                        if (dropped != null) {
+                            dropped.sink.tryEmitError(new IllegalStateException("Pedido descartado: buffer de envio da W-API cheio"));
+                        }
+                    }
+                }
+                case FAIL -> {
+                    return false;
+                }
+            }
+        }
+
+        drain();
+        return true;
+    }
+
+    /**
+     * Coloca um pedido de um {@link Publisher} assinado na fila de pedidos reservados.
+     *
+     * @param command Pedido de envio
+     * @return Mono com a resposta da API contendo os dados da mensagem enviada
+     */
+    private Mono<MessageResponse> dispatchAttached(SendCommand command) {
+        return Mono.defer(() -> {
+            Entry entry = new Entry(command);
+            attached.offer(entry);
+            drain();
+            return entry.sink.asMono();
+        });
+    }
+
+    /**
+     * Retoma o despacho após a liberação de uma vaga do limite compartilhado.
+     */
+    void resume() {
+        waiting.set(false);
+        drain();
+    }
+
+    /**
+     * Despacha pedidos enquanto houver vaga para envios simultâneos, alternando entre
+     * o buffer e os pedidos reservados.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            while (inFlight.get() < concurrency && (!buffer.isEmpty() || !attached.isEmpty()) && acquire()) {
+                Entry entry = attachedFirst ? poll(attached, buffer) : poll(buffer, attached);
+
+                if (entry == null) {
+                    permits.release();
+                    break;
+                }
+
+                attachedFirst = !attachedFirst;
+                inFlight.incrementAndGet();
+                send(entry);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    /**
+     * Ocupa uma vaga do limite compartilhado, registrando o canal como aguardando se
+     * não houver vaga.
+     *
+     * @return {@code true} se a vaga foi ocupada
+     */
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+
+        if (waiting.compareAndSet(false, true)) {
+            permits.await(this);
+        }
+
+        return permits.tryAcquire();
+    }
+
+    /**
+     * Retira o próximo pedido da primeira fila, ou da segunda se a primeira estiver vazia.
+     *
+     * @param first  Fila preferida
+     * @param second Fila alternativa
+     * @return Pedido, ou {@code null} se ambas estiverem vazias
+     */
+    private static Entry poll(Queue<Entry> first,
+                              Queue<Entry> second) {
+        Entry entry = first.poll();
+        return entry != null ? entry : second.poll();
+    }
+
+    /**
+     * Envia um pedido e libera sua vaga ao final.
+     * <p>
+     * A assinatura do envio nunca é cancelada, de modo que o término sempre libera a vaga.
+     * </p>
+     *
+     * @param entry Pedido
+     */
+    private void send(Entry entry) {
+        SendCommand command = entry.command;
+
+        Mono.defer(() -> messageService.sendMessageAsync(command.getAccessToken(), command.getInstanceId(), command.getMessageRequest()))
+                // Libera a vaga antes de entregar o resultado, para que o chamador já a encontre livre.
+                .doOnTerminate(() -> {
+                    inFlight.decrementAndGet();
+                    permits.release();
+                    drain();
+                })
+                .subscribe(
+                        entry.sink::tryEmitValue,
+                        entry.sink::tryEmitError,
+                        entry.sink::tryEmitEmpty
+                );
+    }
+
+    /**
+     * Pedido aguardando envio e o canal de entrega de sua resposta.
+     */
+    private static final class Entry {
+
+        private final SendCommand command;
+        private final Sinks.One<MessageResponse> sink = Sinks.one();
+
+        Entry(SendCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.grupoprosaudi.w_api_sdk.tracing;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AttributeKey;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientInfos;
+
+/**
+ * Ganchos do Reactor Netty que preenchem o {@link RequestTrace} de cada requisição.
+ * <p>
+ * O {@link RequestTrace} é obtido do contexto do Reactor da própria requisição.
+ * Requisições não amostradas não possuem marcações no contexto; para elas, o custo
+ * dos ganchos é a consulta ao contexto em cada etapa e a marcação da conexão como
+ * utilizada. Nenhuma observação ou registrador de métricas é criado para elas.
+ * </p>
+ * <p>
+ * Os tempos de resolução DNS, conexão TCP e handshake TLS são marcados como atributos
+ * do canal da conexão física, uma única vez por conexão: a resolução pelos ganchos
+ * {@code doOnResolve}/{@code doAfterResolve}, a conexão TCP por um handler que se
+ * remove do pipeline ao ativar o canal e o handshake pelo futuro do {@link SslHandler}.
+ * A primeira requisição da conexão copia esses tempos para o seu {@link RequestTrace};
+ * requisições em conexões reaproveitadas não os registram.
+ * </p>
+ */
+public final class HttpClientTracing {
+
+    private static final AttributeKey<Boolean> USED = AttributeKey.valueOf("w-api-sdk.used");
+    private static final AttributeKey<Long> RESOLVE_STARTED_AT = AttributeKey.valueOf("w-api-sdk.resolveStartedAt");
+    private static final AttributeKey<Long> RESOLVED_AT = AttributeKey.valueOf("w-api-sdk.resolvedAt");
+    private static final AttributeKey<Long> CONNECTED_AT = AttributeKey.valueOf("w-api-sdk.connectedAt");
+    private static final AttributeKey<Long> HANDSHAKE_COMPLETED_AT = AttributeKey.valueOf("w-api-sdk.handshakeCompletedAt");
+    private static final String CONNECT_TIMER = "w-api-sdk.connectTimer";
+
+    private HttpClientTracing() {
+    }
+
+    /**
+     * Registra no cliente HTTP os ganchos de marcação de tempo.
+     *
+     * @param httpClient Cliente HTTP a ser instrumentado
+     * @return Cliente HTTP instrumentado
+     */
+    public static HttpClient instrument(HttpClient httpClient) {
+        return httpClient
+                .doOnChannelInit((observer, channel, remoteAddress) -> {
+                    if (channel.parent() == null) {
+                        channel.pipeline().addFirst(CONNECT_TIMER, ConnectTimer.INSTANCE);
+                    }
+                })
+                .doOnResolve(connection -> rootChannel(connection).attr(RESOLVE_STARTED_AT).set(System.nanoTime()))
+                .doAfterResolve((connection, address) -> rootChannel(connection).attr(RESOLVED_AT).set(System.nanoTime()))
+                .doOnRequest((request, connection) -> {
+                    // Marca a conexão como utilizada também nas requisições não amostradas,
+                    // para que uma requisição amostrada posterior a identifique como reaproveitada.
+                    Channel channel = rootChannel(connection);
+                    boolean reused = Boolean.TRUE.equals(channel.attr(USED).getAndSet(Boolean.TRUE));
+                    RequestTrace trace = trace(request);
+
+                    if (trace == null) {
+                        return;
+                    }
+
+                    trace.requestStartedAt = System.nanoTime();
+                    trace.connectionReused = reused;
+
+                    if (!reused) {
+                        Long resolveStartedAt = channel.attr(RESOLVE_STARTED_AT).get();
+                        Long resolvedAt = channel.attr(RESOLVED_AT).get();
+                        Long connectedAt = channel.attr(CONNECTED_AT).get();
+                        Long handshakeCompletedAt = channel.attr(HANDSHAKE_COMPLETED_AT).get();
+
+                        trace.dnsNanos = elapsed(resolveStartedAt, resolvedAt);
+                        trace.connectNanos = elapsed(resolvedAt, connectedAt);
+                        trace.tlsNanos = elapsed(connectedAt, handshakeCompletedAt);
+                    }
+                })
+                .doAfterRequest((request, connection) -> {
+                    RequestTrace trace = trace(request);
+
+                    if (trace == null) {
+                        return;
+                    }
+
+                    trace.requestSentAt = System.nanoTime();
+                    trace.requestBytes = contentLength(request.requestHeaders().get(HttpHeaderNames.CONTENT_LENGTH));
+                })
+                .doOnResponse((response, connection) -> {
+                    RequestTrace trace = trace(response);
+
+                    if (trace == null) {
+                        return;
+                    }
+
+                    trace.responseReceivedAt = System.nanoTime();
+                    trace.responseBytes = contentLength(response.responseHeaders().get(HttpHeaderNames.CONTENT_LENGTH));
+                });
+    }
+
+    /**
+     * Obtém as marcações da requisição a partir do contexto do Reactor.
+     *
+     * @param infos Requisição ou resposta HTTP
+     * @return Marcações da requisição, ou {@code null} se não for amostrada
+     */
+    private static RequestTrace trace(HttpClientInfos infos) {
+        return infos.currentContextView().getOrDefault(RequestTrace.class, null);
+    }
+
+    /**
+     * Retorna o canal da conexão física, também quando a requisição usa um stream HTTP/2.
+     *
+     * @param connection Conexão da requisição
+     * @return Canal da conexão física
+     */
+    private static Channel rootChannel(Connection connection) {
+        Channel channel = connection.channel();
+        return channel.parent() != null ? channel.parent() : channel;
+    }
+
+    /**
+     * Calcula a duração entre duas marcações do canal.
+     *
+     * @param start Marcação inicial
+     * @param end   Marcação final
+     * @return Duração em nanossegundos, ou 0 se alguma das marcações não existir
+     */
+    private static long elapsed(Long start, Long end) {
+        return start != null && end != null && end > start ? end - start : 0;
+    }
+
+    /**
+     * Converte o cabeçalho {@code Content-Length} em número.
+     *
+     * @param value Valor do cabeçalho
+     * @return Tamanho do corpo, ou -1 se desconhecido
+     */
+    private static long contentLength(String value) {
+        if (value == null) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Handler que marca a ativação do canal e a conclusão do handshake TLS.
+     * <p>
+     * É removido do pipeline assim que o canal é ativado.
+     * </p>
+     */
+    @ChannelHandler.Sharable
+    private static final class ConnectTimer extends ChannelInboundHandlerAdapter {
+
+        private static final ConnectTimer INSTANCE = new ConnectTimer();
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            Channel channel = ctx.channel();
+            channel.attr(CONNECTED_AT).set(System.nanoTime());
+
+            SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+
+            if (sslHandler != null) {
+                sslHandler.handshakeFuture().addListener(future -> {
+                    if (future.isSuccess()) {
+                        channel.attr(HANDSHAKE_COMPLETED_AT).set(System.nanoTime());
+                    }
+                });
+            }
+
+            ctx.pipeline().remove(this);
+            ctx.fireChannelActive();
+        }
+    }
+}
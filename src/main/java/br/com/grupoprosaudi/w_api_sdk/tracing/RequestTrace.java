@@ -0,0 +1,111 @@
+package br.com.grupoprosaudi.w_api_sdk.tracing;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Marcações de tempo de uma requisição à W-API, utilizadas no rastreamento.
+ * <p>
+ * Uma instância é criada por requisição amostrada e propagada pelo contexto do
+ * Reactor. Os ganchos do Reactor Netty registrados em {@link HttpClientTracing}
+ * preenchem as marcações à medida que a requisição avança, e ao final as
+ * durações de cada etapa são adicionadas à {@link Observation} como atributos.
+ * </p>
+ * <p>
+ * As etapas registradas são:
+ * </p>
+ * <ul>
+ *   <li>{@code acquire}: da assinatura até a conexão estar pronta para escrita
+ *       (espera no pool e, em conexões novas, DNS, TCP e TLS)</li>
+ *   <li>{@code dns}: resolução do endereço, apenas na primeira requisição da conexão</li>
+ *   <li>{@code connect}: conexão TCP, apenas na primeira requisição da conexão</li>
+ *   <li>{@code tls}: handshake TLS, apenas na primeira requisição da conexão</li>
+ *   <li>{@code write}: serialização e envio do corpo da requisição</li>
+ *   <li>{@code ttfb}: do fim do envio até o recebimento dos cabeçalhos da resposta</li>
+ *   <li>{@code decode}: leitura e desserialização do corpo da resposta</li>
+ * </ul>
+ * <p>
+ * Os valores são instantes de {@link System#nanoTime()}; zero indica etapa não alcançada.
+ * </p>
+ */
+public class RequestTrace {
+
+    volatile long subscribedAt;
+    volatile long requestStartedAt;
+    volatile long requestSentAt;
+    volatile long responseReceivedAt;
+    volatile long dnsNanos;
+    volatile long connectNanos;
+    volatile long tlsNanos;
+    volatile boolean connectionReused;
+    volatile long requestBytes = -1;
+    volatile long responseBytes = -1;
+
+    /**
+     * Cria as marcações a partir do instante da assinatura.
+     */
+    public RequestTrace() {
+        this.subscribedAt = System.nanoTime();
+    }
+
+    /**
+     * Adiciona à observação as durações de cada etapa alcançada.
+     *
+     * @param observation Observação da requisição
+     * @param completedAt Instante de conclusão da requisição
+     */
+    public void applyTo(Observation observation,
+                        long completedAt) {
+        addStage(observation, "acquire", subscribedAt, requestStartedAt);
+        addStage(observation, "write", requestStartedAt, requestSentAt);
+        addStage(observation, "ttfb", requestSentAt, responseReceivedAt);
+        addStage(observation, "decode", responseReceivedAt, completedAt);
+
+        if (requestStartedAt != 0) {
+            observation.highCardinalityKeyValue("w-api.connection.reused", Boolean.toString(connectionReused));
+        }
+
+        addDuration(observation, "dns", dnsNanos);
+        addDuration(observation, "connect", connectNanos);
+        addDuration(observation, "tls", tlsNanos);
+
+        if (requestBytes >= 0) {
+            observation.highCardinalityKeyValue("w-api.request.body.size", Long.toString(requestBytes));
+        }
+
+        if (responseBytes >= 0) {
+            observation.highCardinalityKeyValue("w-api.response.body.size", Long.toString(responseBytes));
+        }
+    }
+
+    /**
+     * Adiciona a duração de uma etapa de abertura da conexão, em microssegundos, se medida.
+     *
+     * @param observation Observação da requisição
+     * @param stage       Nome da etapa
+     * @param nanos       Duração em nanossegundos
+     */
+    private static void addDuration(Observation observation,
+                                    String stage,
+                                    long nanos) {
+        if (nanos > 0) {
+            observation.highCardinalityKeyValue("w-api.stage." + stage + ".us", Long.toString(nanos / 1_000));
+        }
+    }
+
+    /**
+     * Adiciona a duração de uma etapa, em microssegundos, se ela foi concluída.
+     *
+     * @param observation Observação da requisição
+     * @param stage       Nome da etapa
+     * @param start       Instante de início
+     * @param end         Instante de fim
+     */
+    private static void addStage(Observation observation,
+                                 String stage,
+                                 long start,
+                                 long end) {
+        if (start != 0 && end != 0) {
+            observation.highCardinalityKeyValue("w-api.stage." + stage + ".us", Long.toString((end - start) / 1_000));
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package br.com.grupoprosaudi.w_api_sdk.transport;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.InstanceResponse;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.AbstractClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Conector HTTP do {@link org.springframework.web.reactive.function.client.WebClient}
+ * que emula a W-API em memória.
+ * <p>
+ * Atende os endpoints {@code /message/send-*} e {@code /instance/fetch-instance}
+ * sem acesso à rede, permitindo testes de vazão e de longa duração das aplicações
+ * que utilizam o SDK. Por substituir apenas o conector, as requisições continuam
+ * passando por todo o pipeline do {@code WebClient} do SDK: codecs Jackson, filtro
+ * de erros, compressão dos corpos e observações do rastreamento. Apenas os ganchos
+ * do Reactor Netty (pool de conexões, DNS, TLS) não são exercitados.
+ * </p>
+ * <p>
+ * O comportamento do serviço real é simulado através de:
+ * </p>
+ * <ul>
+ *   <li>Latência com distribuição configurável (fixa, uniforme, normal ou exponencial)</li>
+ *   <li>Injeção aleatória de falhas com código HTTP configurável</li>
+ *   <li>Limite de requisições por segundo, com rajada tolerada</li>
+ * </ul>
+ * <p>
+ * Cada instância consultada recebe datas de criação e de expiração fixas, definidas
+ * na primeira consulta, como na W-API.
+ * </p>
+ */
+@Slf4j
+public class EmulatorClientHttpConnector implements ClientHttpConnector {
+
+    private static final String SEND_MESSAGE_PATH_PREFIX = "/message/send-";
+    private static final String FETCH_INSTANCE_PATH = "/instance/fetch-instance";
+    private static final Duration INSTANCE_VALIDITY = Duration.ofDays(30);
+
+    private final WAPISDKProperties.Emulator properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LongAdder> messagesSent = new ConcurrentHashMap<>();
+    private final Map<String, Instant> instancesCreated = new ConcurrentHashMap<>();
+    private final AtomicLong insertedIds = new AtomicLong();
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong();
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /**
+     * Cria o emulador.
+     *
+     * @param properties   Configurações do emulador
+     * @param objectMapper Mapeador JSON utilizado nos corpos das respostas
+     */
+    public EmulatorClientHttpConnector(WAPISDKProperties.Emulator properties,
+                                       ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        if (properties.getRateLimit() > 0) {
+            this.emissionIntervalNanos = (long) (1_000_000_000L / properties.getRateLimit());
+            this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, properties.getRateLimitBurst() - 1);
+        } else {
+            this.emissionIntervalNanos = 0;
+            this.burstToleranceNanos = 0;
+        }
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method,
+                                            URI uri,
+                                            Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return requestCallback.apply(new EmulatedRequest(method, uri))
+                .then(Mono.defer(() -> respond(method, uri)));
+    }
+
+    /**
+     * Aplica limite de taxa, falhas injetadas e latência simulada a uma resposta.
+     *
+     * @param method Método HTTP
+     * @param uri    Endereço da requisição
+     * @return Mono com a resposta emulada
+     */
+    private Mono<ClientHttpResponse> respond(HttpMethod method,
+                                             URI uri) {
+        if (!tryAcquire()) {
+            return Mono.just(error(429, "Too Many Requests"));
+        }
+
+        if (properties.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+            return Mono.just(error(properties.getErrorStatus(), "Falha injetada pelo emulador"));
+        }
+
+        Mono<ClientHttpResponse> response = Mono.fromCallable(() -> route(method, uri));
+        Duration latency = nextLatency();
+
+        return latency.isZero() ? response : response.delaySubscription(latency);
+    }
+
+    /**
+     * Direciona a requisição ao endpoint emulado.
+     *
+     * @param method Método HTTP
+     * @param uri    Endereço da requisição
+     * @return Resposta emulada
+     */
+    private ClientHttpResponse route(HttpMethod method,
+                                     URI uri) throws JsonProcessingException {
+        String path = uri.getPath();
+        String instanceId = UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst("instanceId");
+
+        if (HttpMethod.POST.equals(method) && path.contains(SEND_MESSAGE_PATH_PREFIX)) {
+            return json(200, sendMessage(instanceId));
+        }
+
+        if (HttpMethod.GET.equals(method) && path.endsWith(FETCH_INSTANCE_PATH)) {
+            return json(200, fetchInstance(instanceId));
+        }
+
+        return error(404, "Rota não encontrada: " + path);
+    }
+
+    /**
+     * Emula o envio de uma mensagem.
+     *
+     * @param instanceId ID da instância
+     * @return Resposta com os identificadores da mensagem
+     */
+    private MessageResponse sendMessage(String instanceId) {
+        if (instanceId != null) {
+            messagesSent.computeIfAbsent(instanceId, id -> new LongAdder()).increment();
+        }
+
+        return MessageResponse.builder()
+                .instanceId(instanceId)
+                .messageId(Long.toHexString(ThreadLocalRandom.current().nextLong()).toUpperCase())
+                .insertedId(Long.toString(insertedIds.incrementAndGet()))
+                .build();
+    }
+
+    /**
+     * Emula a consulta de uma instância, sempre conectada e com pagamento em dia.
+     *
+     * @param instanceId ID da instância
+     * @return Dados da instância
+     */
+    private InstanceResponse fetchInstance(String instanceId) {
+        LongAdder sent = instanceId != null ? messagesSent.get(instanceId) : null;
+        Instant created = instanceId != null
+                ? instancesCreated.computeIfAbsent(instanceId, id -> Instant.now())
+                : Instant.now();
+
+        return InstanceResponse.builder()
+                .instanceId(instanceId)
+                .instanceName("emulator-" + instanceId)
+                .connected(true)
+                .messagesSent(sent != null ? sent.sum() : 0L)
+                .messagesReceived(0L)
+                .created(created.getEpochSecond())
+                .isTrial(false)
+                .paymentStatus("paid")
+                .expires(created.plus(INSTANCE_VALIDITY).getEpochSecond())
+                .build();
+    }
+
+    /**
+     * Verifica o limite de taxa através do algoritmo GCRA, sem bloqueios.
+     *
+     * @return {@code true} se a requisição estiver dentro do limite
+     */
+    private boolean tryAcquire() {
+        if (emissionIntervalNanos <= 0) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long tat = current == 0 ? now : Math.max(current, now);
+
+            if (tat - now > burstToleranceNanos) {
+                return false;
+            }
+
+            if (theoreticalArrivalTime.compareAndSet(current, tat + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sorteia a latência da próxima resposta conforme a distribuição configurada.
+     *
+     * @return Latência simulada
+     */
+    private Duration nextLatency() {
+        long mean = properties.getLatencyMean().toNanos();
+        long spread = properties.getLatencySpread().toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long nanos = switch (properties.getLatencyDistribution()) {
+            case FIXED -> mean;
+            case UNIFORM -> spread > 0 ? mean - spread + random.nextLong(2 * spread + 1) : mean;
+            case NORMAL -> mean + (long) (random.nextGaussian() * spread);
+            case EXPONENTIAL -> (long) (-mean * Math.log(1.0 - random.nextDouble()));
+        };
+
+        return Duration.ofNanos(Math.max(0, nanos));
+    }
+
+    /**
+     * Cria uma resposta JSON com o corpo serializado pelo mapeador do SDK.
+     *
+     * @param status Código HTTP
+     * @param body   Corpo da resposta
+     * @return Resposta emulada
+     */
+    private ClientHttpResponse json(int status,
+                                    Object body) throws JsonProcessingException {
+        return new EmulatedResponse(HttpStatusCode.valueOf(status), objectMapper.writeValueAsBytes(body));
+    }
+
+    /**
+     * Cria uma resposta de erro no formato JSON.
+     *
+     * @param status  Código HTTP simulado
+     * @param message Mensagem do erro
+     * @return Resposta emulada
+     */
+    private ClientHttpResponse error(int status,
+                                     String message) {
+        String errorBody = "{\"status\":" + status + ",\"error\":\"" + message + "\"}";
+        log.debug("Erro HTTP {} simulado pelo emulador da W-API: {}", status, errorBody);
+        return new EmulatedResponse(HttpStatusCode.valueOf(status), errorBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Requisição emulada: o corpo é consumido e descartado.
+     */
+    private static final class EmulatedRequest extends AbstractClientHttpRequest {
+
+        private final HttpMethod method;
+        private final URI uri;
+
+        EmulatedRequest(HttpMethod method,
+                        URI uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public DataBufferFactory bufferFactory() {
+            return DefaultDataBufferFactory.sharedInstance;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getNativeRequest() {
+            return (T) this;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return doCommit(() -> Flux.from(body)
+                    .doOnNext(DataBufferUtils::release)
+                    .then());
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(publisher -> Flux.<DataBuffer>from(publisher)));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return doCommit();
+        }
+
+        @Override
+        protected void applyHeaders() {
+        }
+
+        @Override
+        protected void applyCookies() {
+        }
+    }
+
+    /**
+     * Resposta emulada com corpo em memória.
+     */
+    private static final class EmulatedResponse implements ClientHttpResponse {
+
+        private final HttpStatusCode status;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        EmulatedResponse(HttpStatusCode status,
+                         byte[] body) {
+            this.status = status;
+            this.body = body;
+            this.headers.setContentType(MediaType.APPLICATION_JSON);
+            this.headers.setContentLength(body.length);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public MultiValueMap<String, ResponseCookie> getCookies() {
+            return new LinkedMultiValueMap<>();
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.grupoprosaudi.w_api_sdk.transport;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.tracing.RequestTrace;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link WAPITransport} que registra uma {@link Observation} por requisição.
+ * <p>
+ * Habilitado por {@code w-api-sdk.tracing.enabled=true}. Com o Micrometer Tracing
+ * configurado na aplicação (por exemplo, com a ponte para OpenTelemetry), cada
+ * observação é exportada como um span contendo o caminho, o {@code instanceId},
+ * o {@code messageId} retornado, os tamanhos dos corpos e a duração de cada etapa
+ * descrita em {@link RequestTrace}.
+ * </p>
+ * <p>
+ * A observação é propagada pelo contexto do Reactor, de modo que a observação
+ * HTTP do {@code WebClient} e eventuais observações da aplicação sejam encadeadas
+ * a ela. Requisições fora da fração amostrada em {@code w-api-sdk.tracing.sample-rate}
+ * são repassadas diretamente ao transporte decorado, sem nenhum custo adicional.
+ * </p>
+ */
+public class TracingTransport implements WAPITransport {
+
+    private static final String OBSERVATION_NAME = "w-api.client.requests";
+
+    private final WAPITransport delegate;
+    private final ObservationRegistry observationRegistry;
+    private final double sampleRate;
+
+    /**
+     * Cria o decorador de rastreamento.
+     *
+     * @param delegate            Transporte decorado
+     * @param observationRegistry Registro de observações da aplicação
+     * @param sampleRate          Fração (0 a 1) das requisições rastreadas
+     */
+    public TracingTransport(WAPITransport delegate,
+                            ObservationRegistry observationRegistry,
+                            double sampleRate) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public <T> Mono<T> post(String path,
+                            Map<String, String> headers,
+                            Map<String, String> queryParams,
+                            Object body,
+                            Class<T> responseType) {
+        return observe("POST", path, queryParams, () -> delegate.post(path, headers, queryParams, body, responseType));
+    }
+
+    @Override
+    public <T> Mono<T> get(String path,
+                           Map<String, String> headers,
+                           Map<String, String> queryParams,
+                           Class<T> responseType) {
+        return observe("GET", path, queryParams, () -> delegate.get(path, headers, queryParams, responseType));
+    }
+
+    /**
+     * Envolve a requisição em uma observação, quando amostrada.
+     *
+     * @param method      Método HTTP
+     * @param path        Caminho da API
+     * @param queryParams Parâmetros de consulta
+     * @param request     Produz a requisição ao transporte decorado
+     * @param <T>         Tipo da resposta
+     * @return Mono com a resposta da API
+     */
+    private <T> Mono<T> observe(String method,
+                                String path,
+                                Map<String, String> queryParams,
+                                Supplier<Mono<T>> request) {
+        if (observationRegistry.isNoop() || !sampled()) {
+            return request.get();
+        }
+
+        return Mono.deferContextual(contextView -> {
+            Observation parent = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+            Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                    .contextualName("w-api " + path)
+                    .lowCardinalityKeyValue("http.method", method)
+                    .lowCardinalityKeyValue("w-api.path", path);
+
+            if (parent != null) {
+                observation.parentObservation(parent);
+            }
+
+            String instanceId = queryParams != null ? queryParams.get("instanceId") : null;
+
+            if (instanceId != null) {
+                observation.highCardinalityKeyValue("w-api.instance.id", instanceId);
+            }
+
+            RequestTrace trace = new RequestTrace();
+            observation.start();
+
+            return request.get()
+                    .doOnNext(response -> {
+                        if (response instanceof MessageResponse messageResponse && messageResponse.getMessageId() != null) {
+                            observation.highCardinalityKeyValue("w-api.message.id", messageResponse.getMessageId());
+                        }
+                    })
+                    .doOnError(observation::error)
+                    .doFinally(signal -> {
+                        trace.applyTo(observation, System.nanoTime());
+                        observation.lowCardinalityKeyValue("outcome", signal.name());
+                        observation.stop();
+                    })
+                    .contextWrite(context -> context
+                            .put(ObservationThreadLocalAccessor.KEY, observation)
+                            .put(RequestTrace.class, trace));
+        });
+    }
+
+    /**
+     * Decide se a requisição atual deve ser rastreada.
+     *
+     * @return {@code true} se a requisição foi amostrada
+     */
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.grupoprosaudi.w_api_sdk.transport;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Abstração do meio de comunicação utilizado pelos serviços do SDK W-API.
+ * <p>
+ * A implementação padrão, {@link WebClientTransport}, realiza requisições HTTP
+ * à API da W-API. Com {@code w-api-sdk.emulator.enabled=true}, o {@code WebClient}
+ * do SDK é atendido pelo {@link EmulatorClientHttpConnector}, que responde localmente
+ * e em memória, permitindo testes de carga sem acesso ao serviço real.
+ * </p>
+ * <p>
+ * A aplicação pode registrar seu próprio bean desta interface para substituir
+ * a implementação padrão.
+ * </p>
+ */
+public interface WAPITransport {
+
+    /**
+     * Envia uma requisição POST.
+     *
+     * @param path         Caminho da API
+     * @param headers      Cabeçalhos da requisição
+     * @param queryParams  Parâmetros de consulta
+     * @param body         Corpo da requisição
+     * @param responseType Tipo da resposta esperada
+     * @param <T>          Tipo da resposta esperada
+     * @return Mono com a resposta da API
+     */
+    <T> Mono<T> post(String path,
+                     Map<String, String> headers,
+                     Map<String, String> queryParams,
+                     Object body,
+                     Class<T> responseType);
+
+    /**
+     * Envia uma requisição GET.
+     *
+     * @param path         Caminho da API
+     * @param headers      Cabeçalhos da requisição
+     * @param queryParams  Parâmetros de consulta
+     * @param responseType Tipo da resposta esperada
+     * @param <T>          Tipo da resposta esperada
+     * @return Mono com a resposta da API
+     */
+    <T> Mono<T> get(String path,
+                    Map<String, String> headers,
+                    Map<String, String> queryParams,
+                    Class<T> responseType);
+}
@@ -0,0 +1,116 @@
+package br.com.grupoprosaudi.w_api_sdk.transport;
+
+import br.com.grupoprosaudi.w_api_sdk.compression.GzipCompressor;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * Implementação padrão de {@link WAPITransport}, baseada no {@link WebClient} do SDK.
+ * <p>
+ * Com {@code w-api-sdk.compression.request-enabled=true}, corpos de requisição
+ * acima do limite configurado (tipicamente mídias em Base64) são enviados
+ * comprimidos com gzip. A serialização e a compressão desses corpos são feitas no
+ * scheduler {@code parallel} do Reactor, fora da thread que assina o envio.
+ * </p>
+ */
+public class WebClientTransport implements WAPITransport {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GzipCompressor gzipCompressor;
+    private final WAPISDKProperties.Compression compression;
+
+    /**
+     * Cria o transporte HTTP.
+     *
+     * @param webClient      Cliente HTTP configurado para comunicação com a W-API
+     * @param objectMapper   Mapeador JSON do SDK
+     * @param gzipCompressor Compressor utilizado nos corpos de requisição
+     * @param compression    Configurações de compressão
+     */
+    public WebClientTransport(WebClient webClient,
+                              ObjectMapper objectMapper,
+                              GzipCompressor gzipCompressor,
+                              WAPISDKProperties.Compression compression) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.gzipCompressor = gzipCompressor;
+        this.compression = compression;
+    }
+
+    @Override
+    public <T> Mono<T> post(String path,
+                            Map<String, String> headers,
+                            Map<String, String> queryParams,
+                            Object body,
+                            Class<T> responseType) {
+        if (!compression.isRequestEnabled()) {
+            return createRequest(webClient.post(), path, headers, queryParams)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(responseType);
+        }
+
+        // Serialização e compressão saem da thread do assinante, que pode ser um event loop do Netty.
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(body))
+                .subscribeOn(Schedulers.parallel())
+                .flatMap(bytes -> {
+                    WebClient.RequestBodySpec request = createRequest(webClient.post(), path, headers, queryParams);
+
+                    if (bytes.length >= compression.getRequestThreshold().toBytes()) {
+                        bytes = gzipCompressor.compress(bytes);
+                        request.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+
+                    return request.bodyValue(bytes)
+                            .retrieve()
+                            .bodyToMono(responseType);
+                });
+    }
+
+    @Override
+    public <T> Mono<T> get(String path,
+                           Map<String, String> headers,
+                           Map<String, String> queryParams,
+                           Class<T> responseType) {
+        return createRequest(webClient.get(), path, headers, queryParams)
+                .retrieve()
+                .bodyToMono(responseType);
+    }
+
+    /**
+     * Prepara uma requisição com caminho, parâmetros de consulta e cabeçalhos.
+     *
+     * @param spec        Requisição a ser preparada
+     * @param path        Caminho da API
+     * @param headers     Cabeçalhos da requisição
+     * @param queryParams Parâmetros de consulta
+     * @param <S>         Tipo da requisição
+     * @return Requisição preparada
+     */
+    private <S extends WebClient.RequestHeadersSpec<S>> S createRequest(WebClient.RequestHeadersUriSpec<S> spec,
+                                                                        String path,
+                                                                        Map<String, String> headers,
+                                                                        Map<String, String> queryParams) {
+        return spec.uri(builder -> {
+                    builder.path(path);
+
+                    if (queryParams != null) {
+                        queryParams.forEach(builder::queryParam);
+                    }
+
+                    return builder.build();
+                })
+                .headers(httpHeaders -> {
+                    if (headers != null) {
+                        headers.forEach(httpHeaders::add);
+                    }
+                });
+    }
+}
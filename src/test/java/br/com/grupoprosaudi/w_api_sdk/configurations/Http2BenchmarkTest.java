@@ -0,0 +1,139 @@
+package br.com.grupoprosaudi.w_api_sdk.configurations;
+
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara vazão e quantidade de conexões entre HTTP/1.1 e HTTP/2 contra um servidor simulado.
+ * <p>
+ * O servidor aceita HTTP/2 sem TLS (h2c, com conhecimento prévio), o que dispensa certificados
+ * e mantém a multiplexação de streams que se deseja medir. O pool de conexões e o cliente HTTP
+ * são os mesmos criados por {@link WebClientConfiguration}, com rastreamento habilitado; apenas
+ * a URL base e o protocolo sem TLS são substituídos.
+ * </p>
+ */
+@Slf4j
+class Http2BenchmarkTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int CONCURRENCY = 40;
+    private static final int MAX_CONNECTIONS = 16;
+    private static final Duration LATENCY = Duration.ofMillis(10);
+    private static final String BODY = "{\"phone\":\"5511999999999\",\"message\":\"Olá\"}";
+    private static final String RESPONSE = "{\"instanceId\":\"instance\",\"messageId\":\"message\"}";
+
+    private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+        }
+
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void http2MultiplexesRequestsOverFewerConnections() {
+        server = startServer(HttpProtocol.H2C, HttpProtocol.HTTP11);
+
+        Result http11 = run(false, HttpProtocol.HTTP11);
+        Result http2 = run(true, HttpProtocol.H2C);
+
+        log.info("HTTP/1.1: {} req/s em {} conexões", Math.round(http11.throughput()), http11.connections());
+        log.info("HTTP/2: {} req/s em {} conexões", Math.round(http2.throughput()), http2.connections());
+
+        assertThat(http2.connections()).isLessThan(http11.connections());
+        assertThat(http11.connections()).isLessThanOrEqualTo(MAX_CONNECTIONS);
+    }
+
+    @Test
+    void http11FallbackKeepsThePoolConnectionLimit() {
+        server = startServer(HttpProtocol.HTTP11);
+
+        Result fallback = run(true, HttpProtocol.HTTP11);
+
+        log.info("Retorno para HTTP/1.1: {} req/s em {} conexões", Math.round(fallback.throughput()), fallback.connections());
+
+        assertThat(fallback.connections()).isGreaterThan(4).isLessThanOrEqualTo(MAX_CONNECTIONS);
+    }
+
+    private DisposableServer startServer(HttpProtocol... protocols) {
+        return HttpServer.create()
+                .port(0)
+                .protocol(protocols)
+                .handle((request, response) -> {
+                    connections.add(request.remoteAddress());
+
+                    return request.receive().then()
+                            .then(Mono.delay(LATENCY))
+                            .then(response.header("Content-Type", "application/json")
+                                    .sendString(Mono.just(RESPONSE))
+                                    .then());
+                })
+                .bindNow();
+    }
+
+    private Result run(boolean http2Enabled,
+                       HttpProtocol... protocols) {
+        WAPISDKProperties properties = new WAPISDKProperties();
+        properties.getPool().setMaxConnections(MAX_CONNECTIONS);
+        properties.getHttp2().setEnabled(http2Enabled);
+        properties.getTracing().setEnabled(true);
+
+        WebClientConfiguration configuration = new WebClientConfiguration();
+
+        connections.clear();
+        connectionProvider = configuration.wAPIConnectionProvider(properties);
+
+        HttpClient httpClient = configuration.wAPIHttpClient(connectionProvider, DefaultAddressResolverGroup.INSTANCE, properties)
+                .protocol(protocols)
+                .noSSL()
+                .baseUrl("http://localhost:" + server.port());
+
+        long start = System.nanoTime();
+
+        Long completed = Flux.range(0, REQUESTS)
+                .flatMap(ignored -> httpClient.post()
+                        .uri("/message/send-text")
+                        .send(ByteBufFlux.fromString(Mono.just(BODY)))
+                        .responseSingle((response, body) -> body.asString()), CONCURRENCY)
+                .count()
+                .block(Duration.ofSeconds(60));
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        int used = connections.size();
+
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+        connectionProvider = null;
+
+        assertThat(completed).isEqualTo(REQUESTS);
+        return new Result(REQUESTS / seconds, used);
+    }
+
+    private record Result(double throughput, int connections) {
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.grupoprosaudi.w_api_sdk.idempotency;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.TextMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyGuardTest {
+
+    private static final String PATH = "/message/send-text";
+    private static final String INSTANCE_ID = "instance";
+
+    private final AtomicInteger sends = new AtomicInteger();
+
+    @Test
+    void deduplicatesRedeliveryUntilTheEndOfTheWindow() throws InterruptedException {
+        IdempotencyGuard guard = guard(Duration.ofMillis(600));
+        TextMessageRequest request = request("Olá");
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request, send(Duration.ZERO)))
+                .expectNextMatches(response -> "message-1".equals(response.getMessageId()))
+                .verifyComplete();
+
+        // Entre metade e o fim da janela: o envio ainda deve ser considerado duplicado.
+        Thread.sleep(400);
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request, send(Duration.ZERO)))
+                .expectNextMatches(response -> "message-1".equals(response.getMessageId()))
+                .verifyComplete();
+
+        assertThat(sends).hasValue(1);
+
+        // Após o fim da janela: o envio deve ser repetido.
+        Thread.sleep(400);
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request, send(Duration.ZERO)))
+                .expectNextMatches(response -> "message-2".equals(response.getMessageId()))
+                .verifyComplete();
+
+        assertThat(sends).hasValue(2);
+    }
+
+    @Test
+    void sharesConcurrentDuplicatesInASingleSend() {
+        IdempotencyGuard guard = guard(Duration.ofMinutes(1));
+        TextMessageRequest request = request("Olá");
+
+        List<MessageResponse> responses = Flux.range(0, 64)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(ignored -> guard.execute(PATH, INSTANCE_ID, request, send(Duration.ofMillis(100))))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(64).allMatch(response -> "message-1".equals(response.getMessageId()));
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void deduplicatesCallersArrivingWhileTheSendCompletes() {
+        IdempotencyGuard guard = guard(Duration.ofMinutes(1));
+        TextMessageRequest request = request("Olá");
+
+        List<MessageResponse> responses = Flux.range(0, 2_000)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(ignored -> guard.execute(PATH, INSTANCE_ID, request, send(Duration.ZERO)))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(2_000).allMatch(response -> "message-1".equals(response.getMessageId()));
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void doesNotRememberFailedSends() {
+        IdempotencyGuard guard = guard(Duration.ofMinutes(1));
+        TextMessageRequest request = request("Olá");
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request, () -> Mono.error(new IllegalStateException("falha"))))
+                .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request, send(Duration.ZERO)))
+                .expectNextMatches(response -> "message-1".equals(response.getMessageId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void distinguishesMessagesByContent() {
+        IdempotencyGuard guard = guard(Duration.ofMinutes(1));
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request("Olá"), send(Duration.ZERO)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(guard.execute(PATH, INSTANCE_ID, request("Tchau"), send(Duration.ZERO)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(sends).hasValue(2);
+    }
+
+    private static IdempotencyGuard guard(Duration window) {
+        WAPISDKProperties.Idempotency properties = new WAPISDKProperties.Idempotency();
+        properties.setEnabled(true);
+        properties.setWindow(window);
+        properties.setExpectedKeys(1_000);
+
+        return new IdempotencyGuard(properties);
+    }
+
+    private static TextMessageRequest request(String message) {
+        return TextMessageRequest.builder()
+                .phone("5511999999999")
+                .message(message)
+                .build();
+    }
+
+    private Supplier<Mono<MessageResponse>> send(Duration latency) {
+        return () -> Mono.delay(latency)
+                .map(ignored -> MessageResponse.builder()
+                        .instanceId(INSTANCE_ID)
+                        .messageId("message-" + sends.incrementAndGet())
+                        .build());
+    }
+}
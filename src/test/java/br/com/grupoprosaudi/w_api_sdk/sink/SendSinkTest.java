@@ -0,0 +1,227 @@
+package br.com.grupoprosaudi.w_api_sdk.sink;
+
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.MessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.requests.TextMessageRequest;
+import br.com.grupoprosaudi.w_api_sdk.dtos.responses.MessageResponse;
+import br.com.grupoprosaudi.w_api_sdk.properties.WAPISDKProperties;
+import br.com.grupoprosaudi.w_api_sdk.services.MessageService;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SendSinkTest {
+
+    private static final String ACCESS_TOKEN = "token";
+    private static final String INSTANCE_ID = "instance";
+
+    private final Queue<Sinks.One<MessageResponse>> pending = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void failRejectsRequestsWhileTheBufferIsFull() {
+        FakeMessageService messageService = new FakeMessageService(this::held);
+        SendSink sink = new SendSink(messageService, 2, 1, OverflowStrategy.FAIL);
+
+        Mono<MessageResponse> first = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("1"));
+        Mono<MessageResponse> second = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("2"));
+        Mono<MessageResponse> third = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("3"));
+
+        assertThat(sink.inFlight()).isEqualTo(1);
+        assertThat(sink.buffered()).isEqualTo(2);
+        assertThat(sink.isSaturated()).isTrue();
+
+        StepVerifier.create(sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("4")))
+                .verifyError(IllegalStateException.class);
+
+        completeAll();
+
+        StepVerifier.create(Flux.concat(first, second, third))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertThat(messageService.calls).hasValue(3);
+    }
+
+    @Test
+    void dropOldestFailsTheOldestBufferedRequest() {
+        FakeMessageService messageService = new FakeMessageService(this::held);
+        SendSink sink = new SendSink(messageService, 2, 1, OverflowStrategy.DROP_OLDEST);
+
+        Mono<MessageResponse> first = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("1"));
+        Mono<MessageResponse> second = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("2"));
+        Mono<MessageResponse> third = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("3"));
+        Mono<MessageResponse> fourth = sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("4"));
+
+        StepVerifier.create(second)
+                .verifyError(IllegalStateException.class);
+
+        completeAll();
+
+        StepVerifier.create(Flux.concat(first, third, fourth))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertThat(messageService.calls).hasValue(3);
+    }
+
+    @Test
+    void blockWaitsForSpaceInTheBuffer() throws Exception {
+        FakeMessageService messageService = new FakeMessageService(this::held);
+        SendSink sink = new SendSink(messageService, 1, 1, OverflowStrategy.BLOCK);
+
+        sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("1"));
+        sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("2"));
+
+        CompletableFuture<Mono<MessageResponse>> third = CompletableFuture.supplyAsync(
+                () -> sink.submit(ACCESS_TOKEN, INSTANCE_ID, request("3")));
+
+        // Buffer cheio e limite atingido: o produtor deve permanecer bloqueado.
+        Thread.sleep(200);
+        assertThat(third).isNotDone();
+
+        // A conclusão do primeiro envio libera o segundo e, com ele, espaço no buffer.
+        pending.poll().tryEmitValue(response());
+
+        Mono<MessageResponse> accepted = third.get(5, TimeUnit.SECONDS);
+
+        completeAll();
+
+        StepVerifier.create(accepted)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(messageService.calls).hasValue(3);
+    }
+
+    @Test
+    void neverExceedsTheConcurrencyLimit() {
+        FakeMessageService messageService = new FakeMessageService(() -> delayed(Duration.ofMillis(5)));
+        SendSink sink = new SendSink(messageService, 1_000, 4, OverflowStrategy.FAIL);
+
+        List<MessageResponse> responses = Flux.range(0, 200)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> sink.submit(ACCESS_TOKEN, INSTANCE_ID, request(String.valueOf(i))))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(200);
+        assertThat(messageService.maxInFlight.get()).isBetween(1, 4);
+        assertThat(sink.inFlight()).isZero();
+    }
+
+    @Test
+    void sinksShareTheSamePermits() {
+        FakeMessageService messageService = new FakeMessageService(() -> delayed(Duration.ofMillis(5)));
+        SendPermits permits = new SendPermits(3);
+        SendSink first = new SendSink(messageService, 1_000, 3, OverflowStrategy.FAIL, permits);
+        SendSink second = new SendSink(messageService, 1_000, 3, OverflowStrategy.FAIL, permits);
+
+        List<MessageResponse> responses = Flux.range(0, 200)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> (i % 2 == 0 ? first : second).submit(ACCESS_TOKEN, INSTANCE_ID, request(String.valueOf(i))))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(200);
+        assertThat(messageService.maxInFlight.get()).isBetween(1, 3);
+        assertThat(permits.used()).isZero();
+    }
+
+    @Test
+    void attachRequestsOnlyTheCapacityWhileTheConsumerIsSlow() {
+        FakeMessageService messageService = new FakeMessageService(() -> Mono.just(response()));
+        SendSink sink = new SendSink(messageService, 4, 2, OverflowStrategy.FAIL);
+        AtomicLong requested = new AtomicLong();
+
+        Flux<SendCommand> commands = Flux.range(0, 100)
+                .map(i -> new SendCommand(ACCESS_TOKEN, INSTANCE_ID, request(String.valueOf(i))))
+                .doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(sink.attach(commands), 0)
+                .expectSubscription()
+                .then(() -> assertThat(requested).hasValue(4))
+                .thenRequest(1)
+                .expectNextMatches(SendResult::isSuccess)
+                .then(() -> assertThat(requested).hasValue(5))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(99)
+                .verifyComplete();
+
+        assertThat(messageService.calls).hasValue(100);
+    }
+
+    private Mono<MessageResponse> held() {
+        Sinks.One<MessageResponse> sink = Sinks.one();
+        pending.add(sink);
+        return sink.asMono();
+    }
+
+    private void completeAll() {
+        Sinks.One<MessageResponse> sink;
+
+        while ((sink = pending.poll()) != null) {
+            sink.tryEmitValue(response());
+        }
+    }
+
+    private static Mono<MessageResponse> delayed(Duration latency) {
+        return Mono.delay(latency).map(ignored -> response());
+    }
+
+    private static MessageResponse response() {
+        return MessageResponse.builder()
+                .instanceId(INSTANCE_ID)
+                .messageId("message")
+                .build();
+    }
+
+    private static TextMessageRequest request(String message) {
+        return TextMessageRequest.builder()
+                .phone("5511999999999")
+                .message(message)
+                .build();
+    }
+
+    private static final class FakeMessageService extends MessageService {
+
+        private final Supplier<Mono<MessageResponse>> send;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        FakeMessageService(Supplier<Mono<MessageResponse>> send) {
+            super(null, new WAPISDKProperties());
+            this.send = send;
+        }
+
+        @Override
+        public Mono<MessageResponse> sendMessageAsync(String accessToken,
+                                                      String instanceId,
+                                                      MessageRequest messageRequest) {
+            return Mono.defer(() -> {
+                        calls.incrementAndGet();
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        return send.get();
+                    })
+                    .doOnTerminate(inFlight::decrementAndGet);
+        }
+    }
+}